@@ -0,0 +1,68 @@
+package benchmark;
+
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import model.abstractes.TaskBase;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Membandingkan getAllTasksByUserId versi UNION ALL (urut di SQLite) dengan
+ * jalur lama: dua query terpisah lalu di-sort di Java.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.AllTasksQueryBenchmark [-Dbench.args="1000 10000 100000"]
+ */
+public class AllTasksQueryBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length > 0
+            ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : new int[] {1_000, 10_000, 100_000};
+
+        System.out.printf("%10s %18s %18s %9s%n", "tasks", "two queries+sort", "union all", "speedup");
+        for (int size : sizes) {
+            Path dir = Files.createTempDirectory("union-bench");
+            DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+            try {
+                int userId = FixtureGenerator.seedUser("bench", 10, size, 42);
+                // Data user lain supaya filter user_id benar-benar bekerja
+                FixtureGenerator.seedUser("other", 10, size, 43);
+
+                double legacyMillis = measure(() -> legacyAllTasks(userId));
+                double unionMillis = measure(() -> TaskController.getAllTasksByUserId(userId));
+                System.out.printf("%,10d %15.2f ms %15.2f ms %8.2fx%n", size, legacyMillis, unionMillis, legacyMillis / unionMillis);
+            } finally {
+                DatabaseManager.shutdown();
+                try (var files = Files.list(dir)) {
+                    files.forEach(file -> file.toFile().delete());
+                }
+                Files.deleteIfExists(dir);
+            }
+        }
+    }
+
+    // Implementasi getAllTasksByUserId sebelum UNION ALL
+    private static List<TaskBase> legacyAllTasks(int userId) {
+        List<TaskBase> allTasks = new ArrayList<>();
+        allTasks.addAll(TaskController.getAcademicTasksByUserId(userId));
+        allTasks.addAll(TaskController.getPersonalTasksByUserId(userId));
+        allTasks.sort((t1, t2) -> t1.getDeadline().compareTo(t2.getDeadline()));
+        return allTasks;
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+}
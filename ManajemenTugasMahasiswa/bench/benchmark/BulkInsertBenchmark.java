@@ -0,0 +1,102 @@
+package benchmark;
+
+import controller.CourseController;
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import model.AcademicTask;
+import model.Course;
+import model.PersonalTask;
+import model.enums.Status;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput insert (rows/detik): satu row per panggilan dalam autocommit
+ * dibanding addPersonalTasks/addAcademicTasks/addCourses dengan beberapa ukuran chunk.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.BulkInsertBenchmark [-Dbench.args="20000"]
+ */
+public class BulkInsertBenchmark {
+    private static final int[] CHUNK_SIZES = {1, 50, 500, 5_000};
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        Path dir = Files.createTempDirectory("bulk-bench");
+        DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+        try {
+            int userId = FixtureGenerator.seedUser("bench", 0, 0, 1);
+
+            System.out.printf("%-34s %12s %14s%n", "mode", "rows", "rows/sec");
+
+            List<PersonalTask> single = personalTasks(rows, userId);
+            long start = System.nanoTime();
+            for (PersonalTask task : single) {
+                TaskController.addPersonalTask(task);
+            }
+            report("addPersonalTask (autocommit)", rows, System.nanoTime() - start);
+
+            for (int chunkSize : CHUNK_SIZES) {
+                List<PersonalTask> tasks = personalTasks(rows, userId);
+                start = System.nanoTime();
+                int[] ids = TaskController.addPersonalTasks(tasks, chunkSize);
+                report("addPersonalTasks chunk=" + chunkSize, rows, System.nanoTime() - start);
+                verify(ids, rows, tasks.get(rows - 1));
+            }
+
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                courses.add(new Course("Course " + i, userId));
+            }
+            start = System.nanoTime();
+            int[] courseIds = CourseController.addCourses(courses);
+            report("addCourses chunk=" + DatabaseManager.getBatchChunkSize(), rows, System.nanoTime() - start);
+            if (!CourseController.getCourseById(courseIds[rows - 1]).getCourseName().equals("Course " + (rows - 1))) {
+                throw new IllegalStateException("Generated course id does not match inserted row");
+            }
+
+            List<AcademicTask> academic = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                academic.add(new AcademicTask(0, "Academic " + i, "bulk", LocalDate.now().plusDays(i % 120), Status.BELUM_MULAI, courseIds[i % courseIds.length]));
+            }
+            start = System.nanoTime();
+            int[] academicIds = TaskController.addAcademicTasks(academic, userId);
+            report("addAcademicTasks chunk=" + DatabaseManager.getBatchChunkSize(), rows, System.nanoTime() - start);
+            if (!TaskController.getAcademicTaskById(academicIds[rows - 1]).getTitle().equals("Academic " + (rows - 1))) {
+                throw new IllegalStateException("Generated task id does not match inserted row");
+            }
+        } finally {
+            DatabaseManager.shutdown();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static List<PersonalTask> personalTasks(int count, int userId) {
+        List<PersonalTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new PersonalTask(0, "Task " + i, "bulk", LocalDate.now().plusDays(i % 120), Status.BELUM_MULAI, "Bench", userId));
+        }
+        return tasks;
+    }
+
+    private static void verify(int[] ids, int rows, PersonalTask last) {
+        if (ids.length != rows) {
+            throw new IllegalStateException("Expected " + rows + " ids, got " + ids.length);
+        }
+        PersonalTask stored = TaskController.getPersonalTaskById(last.getTaskId());
+        if (stored == null || !stored.getTitle().equals(last.getTitle())) {
+            throw new IllegalStateException("Generated id " + last.getTaskId() + " does not match inserted row");
+        }
+    }
+
+    private static void report(String mode, int rows, long nanos) {
+        System.out.printf("%-34s %,12d %,14.0f%n", mode, rows, rows / (nanos / 1_000_000_000.0));
+    }
+}
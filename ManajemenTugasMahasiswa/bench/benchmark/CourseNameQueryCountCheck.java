@@ -0,0 +1,116 @@
+package benchmark;
+
+import cache.UserDataCache;
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import database.QueryMetrics;
+import model.AcademicTask;
+import view.TaskTableModel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Regression check N+1 nama mata kuliah: N lalu 10N academic task dirender lewat jalur
+ * yang sama dengan tabel tugas, kartu dashboard, dan detail dialog, lalu jumlah call per
+ * template SQL (dari QueryStats) dibandingkan. Gagal (exit code 1) jika ada template yang
+ * call-nya bertambah bersama N.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.CourseNameQueryCountCheck [-Dbench.args="200"]
+ */
+public class CourseNameQueryCountCheck {
+    // Kira-kira jumlah baris yang terlihat di tabel halaman tugas
+    private static final int VISIBLE_ROWS = 30;
+
+    public static void main(String[] args) throws Exception {
+        int academicCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        Map<String, Long> small = render(academicCount);
+        Map<String, Long> large = render(academicCount * 10);
+
+        boolean grew = false;
+        System.out.printf("%8s %8s  %s%n", academicCount, academicCount * 10, "template");
+        TreeSet<String> templates = new TreeSet<>(small.keySet());
+        templates.addAll(large.keySet());
+        for (String sql : templates) {
+            long smallCalls = small.getOrDefault(sql, 0L);
+            long largeCalls = large.getOrDefault(sql, 0L);
+            boolean templateGrew = largeCalls > smallCalls;
+            grew |= templateGrew;
+            System.out.printf("%8d %8d  %s%s%n", smallCalls, largeCalls, templateGrew ? "GREW: " : "", abbreviate(sql));
+        }
+        if (grew) {
+            System.out.println("FAIL: query count grows with the number of tasks");
+            System.exit(1);
+        }
+        System.out.println("OK: constant query count");
+    }
+
+    // Call per template selama render saja, tanpa query seeding
+    private static Map<String, Long> render(int academicCount) throws Exception {
+        Path dir = Files.createTempDirectory("course-name-check");
+        DatabaseConfig config = DatabaseConfig.load()
+            .withUrl("jdbc:sqlite:" + dir.resolve("check.db"))
+            .withQueryStats(true, 10_000);
+        try {
+            DatabaseManager.initialize(config);
+            // seedUser membuat setengah task academic
+            int userId = FixtureGenerator.seedUser("check", 10, academicCount * 2, 42);
+            UserDataCache.invalidateAll();
+            Map<String, Long> before = calls(DatabaseManager.getQueryMetrics());
+
+            // Tabel tugas: halaman pertama, sel yang terlihat dibaca seperti saat JTable merender
+            TaskTableModel[] holder = new TaskTableModel[1];
+            holder[0] = new TaskTableModel((after, limit) -> holder[0].appendPage(
+                TaskController.getTasksPage(userId, after, limit)));
+            TaskTableModel model = holder[0];
+            model.reload();
+            for (int row = 0; row < Math.min(VISIBLE_ROWS, model.getRowCount()); row++) {
+                for (int column = 0; column < model.getColumnCount(); column++) {
+                    model.getValueAt(row, column);
+                }
+            }
+
+            // Kartu dashboard dan detail dialog: nama dari JOIN untuk setiap task
+            List<AcademicTask> tasks = TaskController.getAcademicTasksByUserId(userId);
+            if (tasks.size() != academicCount) {
+                throw new IllegalStateException("expected " + academicCount + " academic tasks, got " + tasks.size());
+            }
+            for (AcademicTask task : tasks) {
+                TaskController.getCourseName(task, userId);
+            }
+            // Task tanpa nama dari JOIN (misalnya baru dibuat): fallback ke cache per user
+            for (AcademicTask task : tasks) {
+                task.setCourseName(null);
+                TaskController.getCourseName(task, userId);
+            }
+
+            Map<String, Long> after = calls(DatabaseManager.getQueryMetrics());
+            after.replaceAll((sql, count) -> count - before.getOrDefault(sql, 0L));
+            after.values().removeIf(count -> count == 0);
+            return after;
+        } finally {
+            DatabaseManager.shutdown();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= 100 ? sql : sql.substring(0, 97) + "...";
+    }
+
+    private static Map<String, Long> calls(QueryMetrics metrics) {
+        Map<String, Long> calls = new HashMap<>();
+        for (QueryMetrics.TemplateEntry entry : metrics.perTemplate()) {
+            calls.put(entry.sql(), entry.calls());
+        }
+        return calls;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import model.PersonalTask;
+import model.abstractes.TaskBase;
+import model.enums.Status;
+import view.DeadlineGrid;
+import view.RasterCache;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Biaya setTasks dan paint satu viewport DeadlineGrid untuk jumlah task yang berbeda.
+ * Paint hanya menyentuh kartu yang terlihat, jadi waktunya harus datar terhadap jumlah task;
+ * jumlah komponen Swing tetap satu (grid itu sendiri).
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.DeadlineGridBenchmark
+ */
+public class DeadlineGridBenchmark {
+    private static final int[] TASK_COUNTS = {10, 100, 1_000, 10_000, 100_000};
+    private static final int VIEWPORT_WIDTH = 800;
+    private static final int VIEWPORT_HEIGHT = 600;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        Color background = new Color(240, 240, 240);
+        DeadlineGrid grid = new DeadlineGrid(background, new Color(220, 180, 220), new Color(150, 50, 200),
+            new Color(80, 80, 80), task -> "Personal", task -> { });
+        BufferedImage image = new BufferedImage(VIEWPORT_WIDTH, VIEWPORT_HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+        System.out.printf("%10s %12s %14s %14s %12s%n", "tasks", "components", "setTasks ms", "paint top ms", "paint mid ms");
+        for (int count : TASK_COUNTS) {
+            List<TaskBase> tasks = upcomingTasks(count);
+
+            long start = System.nanoTime();
+            grid.setTasks(tasks);
+            double setMillis = (System.nanoTime() - start) / 1e6;
+            grid.setSize(VIEWPORT_WIDTH, grid.getPreferredSize().height);
+
+            double top = paint(grid, image, 0);
+            double middle = paint(grid, image, grid.getHeight() / 2);
+            System.out.printf("%,10d %12d %14.3f %14.3f %12.3f%n", count, grid.getComponentCount() + 1, setMillis, top, middle);
+        }
+        System.out.println("raster cache: " + RasterCache.getStats());
+    }
+
+    // Sama seperti JViewport: translate ke posisi scroll dan clip seukuran viewport
+    private static double paint(DeadlineGrid grid, BufferedImage image, int scrollY) {
+        long total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            Graphics2D g = image.createGraphics();
+            g.translate(0, -scrollY);
+            g.setClip(0, scrollY, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+            long start = System.nanoTime();
+            grid.paint(g);
+            total += System.nanoTime() - start;
+            g.dispose();
+        }
+        return total / 1e6 / ROUNDS;
+    }
+
+    private static List<TaskBase> upcomingTasks(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<TaskBase> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 14 hari berurutan, seperti hasil getUpcomingDeadlines
+            LocalDate deadline = today.plusDays(1 + (long) i * 14 / count);
+            tasks.add(new PersonalTask(i, "Kegiatan " + FixtureGenerator.word(random) + " " + i, "",
+                deadline, Status.BELUM_MULAI, "Kategori", 1));
+        }
+        return tasks;
+    }
+}
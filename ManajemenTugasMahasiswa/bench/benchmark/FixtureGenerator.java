@@ -0,0 +1,100 @@
+package benchmark;
+
+import database.ColumnCodec;
+import database.DatabaseManager;
+import database.PooledConnection;
+import model.enums.Status;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+// Mengisi database dengan data sintetis untuk benchmark
+public final class FixtureGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    // Kosakata sintetis (400 kata dua suku kata) supaya judul dan deskripsi punya term untuk pencarian
+    private static final String[] SYLLABLES = {
+        "ba", "ka", "la", "ma", "na", "pa", "ra", "sa", "ta", "wa",
+        "ri", "ko", "tu", "de", "gi", "lo", "nu", "pe", "si", "yo"
+    };
+
+    private FixtureGenerator() {
+    }
+
+    // Membuat satu user dengan sejumlah course dan task (setengah academic, setengah personal)
+    public static int seedUser(String name, int courseCount, int taskCount, long seed) throws SQLException {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        Status[] statuses = Status.values();
+
+        try (PooledConnection conn = DatabaseManager.acquireWrite()) {
+            conn.getConnection().setAutoCommit(false);
+            int userId;
+            try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO Users (name, password) VALUES (?, ?)")) {
+                pstmt.setString(1, name);
+                pstmt.setString(2, "benchmark");
+                pstmt.executeUpdate();
+                userId = lastInsertId(conn);
+            }
+
+            int[] courseIds = new int[courseCount];
+            try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO Courses (course_name, user_id) VALUES (?, ?)")) {
+                for (int i = 0; i < courseCount; i++) {
+                    pstmt.setString(1, "Course " + i);
+                    pstmt.setInt(2, userId);
+                    pstmt.executeUpdate();
+                    courseIds[i] = lastInsertId(conn);
+                }
+            }
+
+            String academicSql = "INSERT INTO AcademicTasks (title, description, deadline, status, course_id) VALUES (?, ?, ?, ?, ?)";
+            String personalSql = "INSERT INTO PersonalTasks (title, description, category, deadline, status, user_id) VALUES (?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement academic = conn.prepareStatement(academicSql);
+                 PreparedStatement personal = conn.prepareStatement(personalSql)) {
+                for (int i = 0; i < taskCount; i++) {
+                    LocalDate deadline = today.plusDays(random.nextInt(730) - 365);
+                    Status status = statuses[random.nextInt(statuses.length)];
+                    if (courseCount > 0 && i % 2 == 0) {
+                        academic.setString(1, "Tugas " + word(random) + " " + i);
+                        academic.setString(2, "Deskripsi tugas akademik " + word(random) + " " + word(random) + " " + i);
+                        academic.setLong(3, ColumnCodec.encodeDeadline(deadline));
+                        academic.setInt(4, ColumnCodec.encodeStatus(status));
+                        academic.setInt(5, courseIds[random.nextInt(courseCount)]);
+                        academic.addBatch();
+                    } else {
+                        personal.setString(1, "Kegiatan " + word(random) + " " + i);
+                        personal.setString(2, "Deskripsi tugas personal " + word(random) + " " + word(random) + " " + i);
+                        personal.setString(3, "Kategori " + (i % 5));
+                        personal.setLong(4, ColumnCodec.encodeDeadline(deadline));
+                        personal.setInt(5, ColumnCodec.encodeStatus(status));
+                        personal.setInt(6, userId);
+                        personal.addBatch();
+                    }
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        academic.executeBatch();
+                        personal.executeBatch();
+                    }
+                }
+                academic.executeBatch();
+                personal.executeBatch();
+            }
+
+            conn.getConnection().commit();
+            return userId;
+        }
+    }
+
+    public static String word(Random random) {
+        return SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+
+    private static int lastInsertId(PooledConnection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
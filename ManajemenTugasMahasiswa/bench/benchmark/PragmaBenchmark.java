@@ -0,0 +1,149 @@
+package benchmark;
+
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import database.PragmaProfile;
+import model.AcademicTask;
+import model.PersonalTask;
+import model.enums.Status;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Membandingkan throughput tulis dan baca antara pragma bawaan SQLite
+ * (rollback journal, synchronous=FULL) dan profil dari database.properties.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.PragmaBenchmark [-Dbench.args="100000"]
+ */
+public class PragmaBenchmark {
+    private static final int WRITE_OPS = 2_000;
+    private static final int READER_THREADS = 4;
+    private static final long MIXED_DURATION_MILLIS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        DatabaseConfig tuned = DatabaseConfig.load();
+
+        Result baseline = run("default", tuned.withPragmas(PragmaProfile.empty()), taskCount);
+        Result optimized = run("tuned (database.properties)", tuned, taskCount);
+
+        System.out.println();
+        System.out.printf("Seeded tasks: %,d%n", taskCount);
+        baseline.print();
+        optimized.print();
+        System.out.printf("Write speedup: %.1fx, mixed read speedup: %.1fx%n",
+            optimized.writesPerSecond / baseline.writesPerSecond,
+            optimized.readsPerSecond / baseline.readsPerSecond);
+    }
+
+    private static Result run(String name, DatabaseConfig config, int taskCount) throws Exception {
+        Path dir = Files.createTempDirectory("pragma-bench");
+        Path dbFile = dir.resolve("bench.db");
+        DatabaseManager.initialize(config.withUrl("jdbc:sqlite:" + dbFile));
+        try {
+            int userId = FixtureGenerator.seedUser("bench", 10, taskCount, 42);
+            List<Integer> academicIds = new ArrayList<>();
+            for (AcademicTask task : TaskController.getAcademicTasksByUserId(userId)) {
+                academicIds.add(task.getTaskId());
+            }
+
+            // 1. Tulis: insert + update status dalam mode autocommit, satu transaksi per statement
+            long start = System.nanoTime();
+            Random random = new Random(7);
+            for (int i = 0; i < WRITE_OPS; i++) {
+                if (i % 2 == 0) {
+                    TaskController.addPersonalTask(new PersonalTask(0, "Write " + i, "bench", LocalDate.now(), Status.BELUM_MULAI, "Bench", userId));
+                } else {
+                    AcademicTask task = new AcademicTask(academicIds.get(random.nextInt(academicIds.size())), "", "", LocalDate.now(), Status.BELUM_MULAI, 0);
+                    TaskController.updateTaskStatus(task, Status.values()[i % 3], userId);
+                }
+            }
+            double writesPerSecond = WRITE_OPS / seconds(start);
+
+            // 2. Baca bersamaan dengan satu writer yang terus melakukan update
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS + 1);
+            List<Future<Long>> readers = new ArrayList<>();
+            executor.submit(() -> {
+                Random writerRandom = new Random(11);
+                int i = 0;
+                while (running.get()) {
+                    AcademicTask task = new AcademicTask(academicIds.get(writerRandom.nextInt(academicIds.size())), "", "", LocalDate.now(), Status.BELUM_MULAI, 0);
+                    TaskController.updateTaskStatus(task, Status.values()[i++ % 3], userId);
+                }
+                return null;
+            });
+            long readStart = System.nanoTime();
+            for (int t = 0; t < READER_THREADS; t++) {
+                int threadSeed = t;
+                readers.add(executor.submit(() -> {
+                    Random readerRandom = new Random(threadSeed);
+                    long reads = 0;
+                    while (running.get()) {
+                        TaskController.getAcademicTaskById(academicIds.get(readerRandom.nextInt(academicIds.size())));
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            Thread.sleep(MIXED_DURATION_MILLIS);
+            running.set(false);
+            long totalReads = 0;
+            for (Future<Long> reader : readers) {
+                totalReads += reader.get();
+            }
+            double readsPerSecond = totalReads / seconds(readStart);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            // 3. Full scan seperti yang dilakukan TaskManagementPanel
+            long scanStart = System.nanoTime();
+            int scans = 5;
+            for (int i = 0; i < scans; i++) {
+                TaskController.getAllTasksByUserId(userId);
+            }
+            double scanMillis = seconds(scanStart) * 1000 / scans;
+
+            return new Result(name, writesPerSecond, readsPerSecond, scanMillis);
+        } finally {
+            DatabaseManager.shutdown();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    private static class Result {
+        final String name;
+        final double writesPerSecond;
+        final double readsPerSecond;
+        final double scanMillis;
+
+        Result(String name, double writesPerSecond, double readsPerSecond, double scanMillis) {
+            this.name = name;
+            this.writesPerSecond = writesPerSecond;
+            this.readsPerSecond = readsPerSecond;
+            this.scanMillis = scanMillis;
+        }
+
+        void print() {
+            System.out.printf("%-30s writes=%,10.0f ops/s  mixed reads=%,10.0f ops/s  full scan=%8.1f ms%n",
+                name, writesPerSecond, readsPerSecond, scanMillis);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import database.QueryMetrics;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Overhead instrumentasi query (query.stats): query yang sama dijalankan dengan pool
+ * tanpa dan dengan QueryStats, lalu snapshot per template dicetak.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.QueryStatsBenchmark [-Dbench.args="1000 10000"]
+ */
+public class QueryStatsBenchmark {
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length > 0
+            ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : new int[] {1_000, 10_000};
+
+        System.out.printf("%10s %-22s %12s %12s %9s%n", "tasks", "query", "plain", "instrumented", "overhead");
+        for (int size : sizes) {
+            Path dir = Files.createTempDirectory("query-stats-bench");
+            DatabaseConfig config = DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db"));
+            try {
+                DatabaseManager.initialize(config.withQueryStats(false, Long.MAX_VALUE));
+                int userId = FixtureGenerator.seedUser("bench", 10, size, 42);
+                double plainCount = measure(() -> TaskController.countTasksByUserId(userId), MEASURED_ROUNDS);
+                double plainAll = measure(() -> TaskController.getAllTasksByUserId(userId), MEASURED_ROUNDS / 20);
+
+                // Threshold tinggi supaya slow log tidak ikut terukur
+                DatabaseManager.initialize(config.withQueryStats(true, 10_000));
+                double statsCount = measure(() -> TaskController.countTasksByUserId(userId), MEASURED_ROUNDS);
+                double statsAll = measure(() -> TaskController.getAllTasksByUserId(userId), MEASURED_ROUNDS / 20);
+
+                print(size, "countTasksByUserId", plainCount, statsCount);
+                print(size, "getAllTasksByUserId", plainAll, statsAll);
+
+                QueryMetrics metrics = DatabaseManager.getQueryMetrics();
+                System.out.println("  " + metrics);
+                metrics.perTemplate().stream().limit(3).forEach(entry -> System.out.println("  " + entry));
+            } finally {
+                DatabaseManager.shutdown();
+                try (var files = Files.list(dir)) {
+                    files.forEach(file -> file.toFile().delete());
+                }
+                Files.deleteIfExists(dir);
+            }
+        }
+    }
+
+    private static void print(int size, String query, double plainMicros, double statsMicros) {
+        System.out.printf("%,10d %-22s %9.1f us %9.1f us %8.1f%%%n",
+            size, query, plainMicros, statsMicros, (statsMicros / plainMicros - 1) * 100);
+    }
+
+    // Rata-rata mikrodetik per panggilan
+    private static double measure(Runnable query, int rounds) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / rounds;
+    }
+}
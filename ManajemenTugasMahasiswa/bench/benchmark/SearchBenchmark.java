@@ -0,0 +1,77 @@
+package benchmark;
+
+import controller.TaskController;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import database.PooledConnection;
+import model.abstractes.TaskBase;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Latensi TaskController.searchTasks (FTS5 + ranking bm25) untuk beberapa bentuk query, dengan
+ * satu user pemilik semua task dan satu user lain sebagai pengganggu filter owner.
+ * "deskripsi" ada di deskripsi setiap task fixture, jadi itu kasus terburuk prefix.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.SearchBenchmark [-Dbench.args="1000000"]
+ */
+public class SearchBenchmark {
+    private static final int LIMIT = 100;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final String[] QUERIES = {"bako", "bak", "ba", "tugas bako", "kegiatan ri", "bako tugas", "deskripsi", "123456", "zzz"};
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        Path dir = Files.createTempDirectory("search-bench");
+        DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+        try {
+            long seedStart = System.nanoTime();
+            int userId = FixtureGenerator.seedUser("bench", 20, taskCount, 42);
+            FixtureGenerator.seedUser("other", 20, taskCount / 10, 43);
+            System.out.printf("seeded %,d tasks (+%,d other user) in %.1f s%n",
+                taskCount, taskCount / 10, (System.nanoTime() - seedStart) / 1e9);
+
+            // Index hasil trigger masih terdiri dari banyak segment; setelah optimize tinggal satu
+            measure("segmented index", userId);
+            long optimizeStart = System.nanoTime();
+            try (PooledConnection conn = DatabaseManager.acquireWrite();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO TaskSearch (TaskSearch) VALUES ('optimize')");
+            }
+            System.out.printf("optimize: %.1f s%n", (System.nanoTime() - optimizeStart) / 1e9);
+            measure("optimized index", userId);
+        } finally {
+            DatabaseManager.shutdown();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static void measure(String label, int userId) {
+        System.out.println(label);
+        System.out.printf("%-14s %8s %10s %10s%n", "query", "hits", "avg ms", "max ms");
+        for (String query : QUERIES) {
+            List<TaskBase> hits = TaskController.searchTasks(userId, query, LIMIT);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                TaskController.searchTasks(userId, query, LIMIT);
+            }
+            long total = 0;
+            long max = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                TaskController.searchTasks(userId, query, LIMIT);
+                long elapsed = System.nanoTime() - start;
+                total += elapsed;
+                max = Math.max(max, elapsed);
+            }
+            System.out.printf("%-14s %8d %10.3f %10.3f%n", query, hits.size(),
+                total / 1e6 / MEASURED_ROUNDS, max / 1e6);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import controller.TaskController;
+import controller.TaskCursor;
+import controller.TaskPage;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import model.abstractes.TaskBase;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mengukur biaya halaman pertama getTasksPage dibanding getAllTasksByUserId,
+ * dan memastikan gabungan semua halaman sama dengan daftar lengkap.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.TaskPageBenchmark [-Dbench.args="100 10000 1000000"]
+ */
+public class TaskPageBenchmark {
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length > 0
+            ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : new int[] {100, 10_000, 100_000};
+
+        System.out.printf("%10s %14s %14s %14s%n", "tasks", "full list", "first page", "deep page");
+        for (int size : sizes) {
+            Path dir = Files.createTempDirectory("page-bench");
+            DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+            try {
+                int userId = FixtureGenerator.seedUser("bench", 10, size, 42);
+                FixtureGenerator.seedUser("other", 10, size, 43);
+
+                List<TaskBase> all = TaskController.getAllTasksByUserId(userId);
+                verifyPages(userId, all);
+
+                TaskCursor deep = TaskCursor.after(all.get(all.size() / 2));
+                double fullMillis = measure(() -> TaskController.getAllTasksByUserId(userId));
+                double firstMillis = measure(() -> TaskController.getTasksPage(userId, null, PAGE_SIZE));
+                double deepMillis = measure(() -> TaskController.getTasksPage(userId, deep, PAGE_SIZE));
+                System.out.printf("%,10d %11.2f ms %11.2f ms %11.2f ms%n", size, fullMillis, firstMillis, deepMillis);
+            } finally {
+                DatabaseManager.shutdown();
+                try (var files = Files.list(dir)) {
+                    files.forEach(file -> file.toFile().delete());
+                }
+                Files.deleteIfExists(dir);
+            }
+        }
+    }
+
+    private static void verifyPages(int userId, List<TaskBase> expected) {
+        List<TaskBase> paged = new ArrayList<>();
+        TaskPage page = TaskController.getTasksPage(userId, null, PAGE_SIZE);
+        paged.addAll(page.tasks());
+        while (page.hasMore()) {
+            page = TaskController.getTasksPage(userId, page.nextCursor(), PAGE_SIZE);
+            paged.addAll(page.tasks());
+        }
+
+        if (paged.size() != expected.size()) {
+            throw new IllegalStateException("Paged " + paged.size() + " rows, expected " + expected.size());
+        }
+        for (int i = 0; i < paged.size(); i++) {
+            TaskBase a = paged.get(i);
+            TaskBase b = expected.get(i);
+            if (a.getClass() != b.getClass() || a.getTaskId() != b.getTaskId()) {
+                throw new IllegalStateException("Row " + i + " differs between paged and full list");
+            }
+        }
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+}
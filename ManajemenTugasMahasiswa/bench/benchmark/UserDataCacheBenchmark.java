@@ -0,0 +1,119 @@
+package benchmark;
+
+import cache.UserDataCache;
+import controller.CourseController;
+import controller.CourseDeletion;
+import controller.TaskController;
+import controller.TaskPage;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import model.Course;
+import model.PersonalTask;
+import model.abstractes.TaskBase;
+import model.enums.Status;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Simulasi navigasi antar panel (dashboard, tugas, mata kuliah) lewat UserDataCache
+ * dibanding langsung ke controller. Mencatat jumlah lease koneksi selama navigasi
+ * berulang dan memeriksa hasil cache tetap sama dengan controller setelah write.
+ *
+ * Jalankan: ant bench -Dbench.class=benchmark.UserDataCacheBenchmark [-Dbench.args="10000"]
+ */
+public class UserDataCacheBenchmark {
+    private static final int ROUNDS = 200;
+    private static final int PAGE_SIZE = 100;
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        Path dir = Files.createTempDirectory("cache-bench");
+        DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+        try {
+            int userId = FixtureGenerator.seedUser("bench", 10, taskCount, 42);
+
+            verify(userId);
+            // Write melalui controller harus terlihat di cache tanpa reload manual
+            PersonalTask added = new PersonalTask("Baru", "cache", LocalDate.now().plusDays(2), "Bench", userId);
+            TaskController.addPersonalTask(added);
+            verify(userId);
+            TaskBase first = UserDataCache.getUpcomingDeadlines(userId, 14).get(0);
+            TaskController.updateTaskStatus(first, Status.SELESAI, userId);
+            verify(userId);
+            TaskController.deletePersonalTask(TaskController.getPersonalTasksByUserId(userId).get(0).getTaskId(), userId);
+            verify(userId);
+            Course course = UserDataCache.getCourses(userId).get(0);
+            CourseDeletion deletion = CourseController.deleteCourse(course.getCourseId(), userId);
+            verify(userId);
+            System.out.println("Cache matches controller after add, status update, delete and " + deletion);
+
+            double directMillis = navigate(ROUNDS, () -> {
+                TaskController.getUpcomingDeadlines(userId, 14);
+                TaskController.getTasksPage(userId, null, PAGE_SIZE);
+                CourseController.getCoursesByUserId(userId);
+            });
+
+            long leasesBefore = DatabaseManager.getPoolMetrics().leaseCount();
+            double cachedMillis = navigate(ROUNDS, () -> {
+                UserDataCache.getUpcomingDeadlines(userId, 14);
+                UserDataCache.getTasksPage(userId, null, PAGE_SIZE);
+                UserDataCache.getCourses(userId);
+            });
+            long leases = DatabaseManager.getPoolMetrics().leaseCount() - leasesBefore;
+
+            System.out.printf("tasks=%,d  navigation: controller %.3f ms, cache %.3f ms, connection leases during cached rounds: %d%n",
+                taskCount, directMillis, cachedMillis, leases);
+            System.out.println("Cache: " + UserDataCache.getStats());
+        } finally {
+            DatabaseManager.shutdown();
+            try (var files = Files.list(dir)) {
+                files.forEach(file -> file.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static void verify(int userId) {
+        same(TaskController.getUpcomingDeadlines(userId, 14), UserDataCache.getUpcomingDeadlines(userId, 14), "upcoming");
+        same(TaskController.getAllTasksByUserId(userId), UserDataCache.getAllTasks(userId), "all tasks");
+
+        TaskPage expected = TaskController.getTasksPage(userId, null, PAGE_SIZE);
+        TaskPage actual = UserDataCache.getTasksPage(userId, null, PAGE_SIZE);
+        same(expected.tasks(), actual.tasks(), "first page");
+        same(TaskController.getTasksPage(userId, expected.nextCursor(), PAGE_SIZE).tasks(),
+            UserDataCache.getTasksPage(userId, actual.nextCursor(), PAGE_SIZE).tasks(), "second page");
+
+        List<Course> courses = CourseController.getCoursesByUserId(userId);
+        List<Course> cachedCourses = UserDataCache.getCourses(userId);
+        if (courses.size() != cachedCourses.size()) {
+            throw new IllegalStateException("courses differ");
+        }
+    }
+
+    private static void same(List<TaskBase> expected, List<TaskBase> actual, String what) {
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException(what + ": " + actual.size() + " rows, expected " + expected.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            TaskBase a = expected.get(i);
+            TaskBase b = actual.get(i);
+            if (a.getClass() != b.getClass() || a.getTaskId() != b.getTaskId() || a.getStatus() != b.getStatus()) {
+                throw new IllegalStateException(what + ": row " + i + " differs");
+            }
+        }
+    }
+
+    private static double navigate(int rounds, Runnable round) {
+        for (int i = 0; i < 10; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / rounds;
+    }
+}
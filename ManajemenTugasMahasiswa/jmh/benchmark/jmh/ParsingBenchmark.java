@@ -0,0 +1,82 @@
+package benchmark.jmh;
+
+import database.ColumnCodec;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import model.enums.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Decode kolom deadline dan status per row: format teks lama dibanding ColumnCodec
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+    private static final int SAMPLES = 1024;
+
+    private final String[] statusStrings = new String[SAMPLES];
+    private final String[] deadlineStrings = new String[SAMPLES];
+    private final int[] statusCodes = new int[SAMPLES];
+    private final long[] epochDays = new long[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        // Campuran teks status lama: display name dan Status.name()
+        String[] stored = {"Belum Mulai", "Sedang Dikerjakan", "Selesai", "SELESAI", "SEDANG_DIKERJAKAN"};
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < SAMPLES; i++) {
+            statusStrings[i] = stored[random.nextInt(stored.length)];
+            LocalDate deadline = today.plusDays(random.nextInt(730) - 365);
+            deadlineStrings[i] = deadline.toString();
+            epochDays[i] = ColumnCodec.encodeDeadline(deadline);
+            statusCodes[i] = random.nextInt(Status.values().length);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void statusFromString(Blackhole bh) {
+        for (String value : statusStrings) {
+            bh.consume(Status.fromString(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void localDateParse(Blackhole bh) {
+        for (String value : deadlineStrings) {
+            bh.consume(LocalDate.parse(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void statusFromCode(Blackhole bh) {
+        for (int code : statusCodes) {
+            bh.consume(ColumnCodec.decodeStatus(code));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void localDateOfEpochDay(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(ColumnCodec.decodeDeadline(epochDay));
+        }
+    }
+}
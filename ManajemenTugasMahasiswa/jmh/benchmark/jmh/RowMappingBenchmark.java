@@ -0,0 +1,151 @@
+package benchmark.jmh;
+
+import database.ColumnCodec;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import model.PersonalTask;
+import model.enums.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Biaya membaca dan memetakan row task: format lama (deadline TEXT ISO, status TEXT)
+ * dibanding format sekarang (epoch day dan kode status INTEGER). Kedua tabel berisi data yang sama.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rowCount;
+
+    private Path dir;
+    private Connection conn;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("row-mapping");
+        conn = DriverManager.getConnection("jdbc:sqlite:" + dir.resolve("bench.db"));
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE legacy_tasks (id INTEGER PRIMARY KEY, title TEXT, deadline TEXT, status TEXT)");
+            stmt.execute("CREATE TABLE tasks (id INTEGER PRIMARY KEY, title TEXT, deadline INTEGER, status INTEGER)");
+        }
+
+        conn.setAutoCommit(false);
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        Status[] statuses = Status.values();
+        try (PreparedStatement legacy = conn.prepareStatement("INSERT INTO legacy_tasks VALUES (?, ?, ?, ?)");
+             PreparedStatement current = conn.prepareStatement("INSERT INTO tasks VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < rowCount; i++) {
+                LocalDate deadline = today.plusDays(random.nextInt(730) - 365);
+                Status status = statuses[random.nextInt(statuses.length)];
+                legacy.setInt(1, i);
+                legacy.setString(2, "Tugas " + i);
+                legacy.setString(3, deadline.toString());
+                legacy.setString(4, status.getDisplayName());
+                legacy.addBatch();
+                current.setInt(1, i);
+                current.setString(2, "Tugas " + i);
+                current.setLong(3, ColumnCodec.encodeDeadline(deadline));
+                current.setInt(4, ColumnCodec.encodeStatus(status));
+                current.addBatch();
+            }
+            legacy.executeBatch();
+            current.executeBatch();
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        conn.close();
+        try (var files = Files.list(dir)) {
+            files.forEach(file -> file.toFile().delete());
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public List<PersonalTask> legacyTextColumns() throws SQLException {
+        List<PersonalTask> tasks = new ArrayList<>(rowCount);
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, title, deadline, status FROM legacy_tasks")) {
+            while (rs.next()) {
+                tasks.add(new PersonalTask(rs.getInt(1), rs.getString(2), null,
+                    LocalDate.parse(rs.getString(3)), legacyFromString(rs.getString(4)), null, 0));
+            }
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public List<PersonalTask> integerColumns() throws SQLException {
+        List<PersonalTask> tasks = new ArrayList<>(rowCount);
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id, title, deadline, status FROM tasks")) {
+            while (rs.next()) {
+                tasks.add(new PersonalTask(rs.getInt(1), rs.getString(2), null,
+                    ColumnCodec.decodeDeadline(rs.getLong(3)), ColumnCodec.decodeStatus(rs.getInt(4)), null, 0));
+            }
+        }
+        return tasks;
+    }
+
+    // Salinan Status.fromString sebelum kode integer, untuk baseline
+    private static Status legacyFromString(String statusString) {
+        if (statusString == null) {
+            return Status.BELUM_MULAI;
+        }
+        String normalized = statusString.trim();
+        for (Status status : Status.values()) {
+            if (status.getDisplayName().equalsIgnoreCase(normalized) || status.name().equalsIgnoreCase(normalized)) {
+                return status;
+            }
+        }
+        switch (normalized.toLowerCase()) {
+            case "belum mulai":
+            case "belum_mulai":
+            case "not_started":
+                return Status.BELUM_MULAI;
+            case "sedang dikerjakan":
+            case "sedang_dikerjakan":
+            case "in_progress":
+            case "progress":
+                return Status.SEDANG_DIKERJAKAN;
+            case "selesai":
+            case "completed":
+            case "done":
+                return Status.SELESAI;
+            default:
+                return Status.BELUM_MULAI;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark.jmh;
+
+import benchmark.FixtureGenerator;
+import database.DatabaseConfig;
+import database.DatabaseManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+// Database SQLite sementara berisi satu user benchmark dan satu user lain sebagai noise
+final class SqliteFixture implements AutoCloseable {
+    private final Path dir;
+    private final int userId;
+
+    private SqliteFixture(Path dir, int userId) {
+        this.dir = dir;
+        this.userId = userId;
+    }
+
+    static SqliteFixture create(int courseCount, int taskCount) throws IOException, SQLException {
+        Path dir = Files.createTempDirectory("jmh-fixture");
+        DatabaseManager.initialize(DatabaseConfig.load().withUrl("jdbc:sqlite:" + dir.resolve("bench.db")));
+        int userId = FixtureGenerator.seedUser("bench", courseCount, taskCount, 42);
+        FixtureGenerator.seedUser("other", courseCount, taskCount, 43);
+        return new SqliteFixture(dir, userId);
+    }
+
+    int userId() {
+        return userId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        DatabaseManager.shutdown();
+        try (var files = Files.list(dir)) {
+            files.forEach(file -> file.toFile().delete());
+        }
+        Files.deleteIfExists(dir);
+    }
+}
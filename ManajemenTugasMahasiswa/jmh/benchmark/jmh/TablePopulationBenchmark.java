@@ -0,0 +1,94 @@
+package benchmark.jmh;
+
+import controller.TaskController;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import javax.swing.table.DefaultTableModel;
+import model.AcademicTask;
+import model.PersonalTask;
+import model.abstractes.TaskBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import view.TaskTableModel;
+
+/**
+ * Setara loadAllTasks di TaskManagementPanel, tanpa JTable/EDT:
+ * query ditambah pengisian table model dan pembacaan sel yang terlihat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TablePopulationBenchmark {
+    private static final String[] COLUMN_NAMES = {"ID", "Judul", "Deskripsi", "Deadline", "Mata Kuliah", "Status"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    // Kira-kira jumlah baris yang terlihat di tabel halaman tugas
+    private static final int VISIBLE_ROWS = 30;
+
+    @Param({"1000", "10000"})
+    public int taskCount;
+
+    private SqliteFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = SqliteFixture.create(10, taskCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    // Jalur sebelum TaskTableModel: semua task dimuat lalu addRow satu per satu
+    @Benchmark
+    public DefaultTableModel defaultTableModelAllRows() {
+        DefaultTableModel model = new DefaultTableModel(COLUMN_NAMES, 0);
+        for (TaskBase task : TaskController.getAllTasksByUserId(fixture.userId())) {
+            String courseOrCategory = task instanceof AcademicTask academic
+                ? academic.getCourseName()
+                : ((PersonalTask) task).getCategory();
+            model.addRow(new Object[] {
+                task.getTaskId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDeadline().format(DATE_FORMAT),
+                courseOrCategory,
+                task.getStatus().getDisplayName()
+            });
+        }
+        return model;
+    }
+
+    // Jalur sekarang: halaman pertama dimuat, lalu sel yang terlihat dibaca seperti saat JTable merender
+    @Benchmark
+    public void pagedTaskTableModel(Blackhole bh) {
+        int userId = fixture.userId();
+        TaskTableModel[] holder = new TaskTableModel[1];
+        holder[0] = new TaskTableModel((after, limit) -> holder[0].appendPage(
+            TaskController.getTasksPage(userId, after, limit)));
+        TaskTableModel model = holder[0];
+        model.reload();
+
+        int rows = Math.min(VISIBLE_ROWS, model.getRowCount());
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < model.getColumnCount(); column++) {
+                bh.consume(model.getValueAt(row, column));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark.jmh;
+
+import controller.TaskController;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.abstractes.TaskBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Query controller yang dipanggil saat dashboard dan halaman tugas dibuka
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int taskCount;
+
+    @Param({"10"})
+    public int courseCount;
+
+    private SqliteFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = SqliteFixture.create(courseCount, taskCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<TaskBase> getAllTasksByUserId() {
+        return TaskController.getAllTasksByUserId(fixture.userId());
+    }
+
+    @Benchmark
+    public List<TaskBase> getUpcomingDeadlines() {
+        return TaskController.getUpcomingDeadlines(fixture.userId(), 14);
+    }
+}
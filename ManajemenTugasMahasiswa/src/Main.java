@@ -1,12 +1,25 @@
+import monitoring.EdtWatchdog;
 import view.MainFrame;
+import view.PaintMetrics;
 import database.DatabaseManager;
+import service.StartupTimer;
 import javax.swing.SwingUtilities;
 //import javax.swing.UIManager;
 
 public class Main {
     public static void main(String[] args) {
-        // Initialize database connection
-        DatabaseManager.getConnection();
+        StartupTimer.mark("main");
+        
+        // Database dibuka dan dimigrasi paralel dengan pembuatan UI; login screen tidak menunggu
+        long databaseStart = System.nanoTime();
+        DatabaseManager.initializeInBackground().whenComplete((ignored, error) -> {
+            if (error != null) {
+                error.printStackTrace();
+                return;
+            }
+            StartupTimer.logDuration("database open and schema check", databaseStart);
+            StartupTimer.mark("database ready");
+        });
         
 //        // Set look and feel
 //        try {
@@ -16,13 +29,16 @@ public class Main {
 //        }
 //        
         // Start application with MainFrame
+        // Watchdog dipasang sebelum event pertama supaya pembuatan MainFrame ikut diukur
+        EdtWatchdog.install();
         SwingUtilities.invokeLater(() -> {
+            PaintMetrics.install();
             new MainFrame().setVisible(true);
         });
         
-        // Add shutdown hook to close database connection
+        // Add shutdown hook to close pooled database connections
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            DatabaseManager.closeConnection();
+            DatabaseManager.shutdown();
         }));
     }
 }
\ No newline at end of file
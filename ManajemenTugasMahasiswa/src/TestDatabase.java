@@ -1,5 +1,5 @@
 import database.DatabaseManager;
-import java.sql.Connection;
+import database.PooledConnection;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -7,11 +7,10 @@ public class TestDatabase {
     public static void main(String[] args) {
         System.out.println("Testing database connection...");
         
-        try {
-            // Test koneksi database
-            Connection conn = DatabaseManager.getConnection();
+        // Test koneksi database lewat pool
+        try (PooledConnection conn = DatabaseManager.acquireRead()) {
             
-            if (conn != null && !conn.isClosed()) {
+            if (conn.getConnection() != null && !conn.getConnection().isClosed()) {
                 System.out.println("✅ Database connection successful!");
                 
                 // Test create table
@@ -31,6 +30,8 @@ public class TestDatabase {
                 stmt.close();
                 
                 System.out.println("\n✅ Database setup complete!");
+                System.out.println("📊 Pool: " + DatabaseManager.getPoolMetrics());
+                System.out.println("📊 Statement cache: " + DatabaseManager.getStatementCacheMetrics());
                 
             } else {
                 System.out.println("❌ Database connection failed!");
@@ -40,7 +41,7 @@ public class TestDatabase {
             System.out.println("❌ Database error: " + e.getMessage());
             e.printStackTrace();
         } finally {
-            DatabaseManager.closeConnection();
+            DatabaseManager.shutdown();
         }
     }
 }
\ No newline at end of file
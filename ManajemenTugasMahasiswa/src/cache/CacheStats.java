@@ -0,0 +1,16 @@
+package cache;
+
+// Snapshot statistik UserDataCache
+public record CacheStats(long hits, long misses, long evictions, long bypasses, int cachedUsers, int cachedRows, int maxRows) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d hitRatio=%.1f%% evictions=%d bypasses=%d users=%d rows=%d/%d",
+            hits, misses, hitRatio() * 100, evictions, bypasses, cachedUsers, cachedRows, maxRows);
+    }
+}
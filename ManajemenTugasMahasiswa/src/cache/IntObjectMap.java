@@ -0,0 +1,162 @@
+package cache;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Hash map dengan key int primitif (open addressing, linear probing).
+ * Tidak ada boxing Integer per entry seperti HashMap<Integer, V>. Tidak thread-safe.
+ */
+public class IntObjectMap<V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int size;
+    private int resizeAt;
+
+    public IntObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    // Mengembalikan value lama, atau null jika key baru; value null tidak didukung
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values are not supported");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                action.accept((V) values[i]);
+            }
+        }
+    }
+
+    // Backward-shift deletion: geser entry setelahnya supaya rantai probing tidak terputus
+    private void shiftBack(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = mix(keys[next]) & mask;
+            // Entry boleh mengisi gap jika home-nya tidak berada di antara gap (eksklusif) dan next
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    // Id AUTOINCREMENT berurutan; diacak supaya tidak mengelompok di slot yang berdekatan
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
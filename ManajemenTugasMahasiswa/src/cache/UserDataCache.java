@@ -0,0 +1,644 @@
+package cache;
+
+import controller.CourseController;
+import controller.TaskController;
+import controller.TaskCursor;
+import controller.TaskPage;
+import model.AcademicTask;
+import model.Course;
+import model.PersonalTask;
+import model.abstractes.TaskBase;
+import model.enums.Status;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Cache read-through untuk task dan course per user, di antara view dan controller.
+ * Task dan course disimpan di IntObjectMap berdasarkan id; daftar terurut dibangun
+ * ulang hanya setelah ada perubahan. Controller memanggil method invalidasi/patch
+ * di sini setelah write berhasil, jadi navigasi berulang tidak menyentuh SQLite.
+ *
+ * Jumlah row dibatasi maxRows (-Dcache.maxRows); user yang paling lama tidak dipakai
+ * dikeluarkan lebih dulu. User dengan task lebih banyak dari batas tidak di-cache dan
+ * dilayani langsung oleh query controller.
+ */
+public final class UserDataCache {
+    private static final Logger LOGGER = Logger.getLogger(UserDataCache.class.getName());
+
+    private static final Object LOCK = new Object();
+    // Urutan akses, untuk eviction LRU per user
+    private static final Map<Integer, UserEntry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+    // User yang task/course-nya sedang di-query; thread lain menunggu hasilnya (misalnya prefetch login)
+    private static final Set<Integer> TASKS_LOADING = new HashSet<>();
+    private static final Set<Integer> COURSES_LOADING = new HashSet<>();
+    private static final Set<Integer> UPCOMING_LOADING = new HashSet<>();
+    private static int maxRows = Integer.getInteger("cache.maxRows", 50_000);
+    private static int cachedRows;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long bypasses;
+
+    private UserDataCache() {
+    }
+
+    private static final class UserEntry {
+        final int userId;
+        IntObjectMap<AcademicTask> academicTasks;
+        IntObjectMap<PersonalTask> personalTasks;
+        List<TaskBase> sortedTasks;
+        boolean tasksOversized;
+        int taskVersion;
+
+        // Hasil query deadline terdekat, dipakai selama task user belum dimuat penuh.
+        // Berlaku untuk hari upcomingDay dan taskVersion yang sama; tidak dihitung di cachedRows
+        List<TaskBase> upcoming;
+        LocalDate upcomingDay;
+        int upcomingDays;
+        int upcomingVersion;
+
+        IntObjectMap<Course> courses;
+        List<Course> sortedCourses;
+        int courseVersion;
+
+        UserEntry(int userId) {
+            this.userId = userId;
+        }
+
+        int rows() {
+            int rows = courses == null ? 0 : courses.size();
+            if (academicTasks != null) {
+                rows += academicTasks.size() + personalTasks.size();
+            }
+            return rows;
+        }
+
+        List<TaskBase> sortedTasks() {
+            if (sortedTasks == null) {
+                List<TaskBase> tasks = new ArrayList<>(academicTasks.size() + personalTasks.size());
+                academicTasks.forEachValue(tasks::add);
+                personalTasks.forEachValue(tasks::add);
+                tasks.sort(TaskCursor.ORDER);
+                sortedTasks = Collections.unmodifiableList(tasks);
+            }
+            return sortedTasks;
+        }
+
+        List<Course> sortedCourses() {
+            if (sortedCourses == null) {
+                List<Course> list = new ArrayList<>(courses.size());
+                courses.forEachValue(list::add);
+                list.sort(Comparator.comparing(Course::getCourseName));
+                sortedCourses = Collections.unmodifiableList(list);
+            }
+            return sortedCourses;
+        }
+
+        void dropTasks() {
+            academicTasks = null;
+            personalTasks = null;
+            sortedTasks = null;
+            tasksOversized = false;
+            taskVersion++;
+        }
+
+        void dropCourses() {
+            courses = null;
+            sortedCourses = null;
+            courseVersion++;
+        }
+    }
+
+    // ===== Read =====
+
+    // Semua task user, terurut (deadline, kind, id); list tidak bisa diubah
+    public static List<TaskBase> getAllTasks(int userId) {
+        List<TaskBase> tasks = tasks(userId);
+        return tasks != null ? tasks : TaskController.getAllTasksByUserId(userId);
+    }
+
+    /**
+     * Sama seperti TaskController.getUpcomingDeadlines: (hari ini, hari ini + days], kecuali
+     * SELESAI. Jika task user sudah dimuat, difilter dari memori; jika belum, hanya jendela
+     * ini yang di-query (tidak memuat seluruh riwayat task) dan hasilnya disimpan sampai ada
+     * write task atau hari berganti.
+     */
+    public static List<TaskBase> getUpcomingDeadlines(int userId, int days) {
+        LocalDate today = LocalDate.now();
+        int version;
+        synchronized (LOCK) {
+            awaitLoad(UPCOMING_LOADING, userId);
+            UserEntry entry = entry(userId);
+            if (entry.academicTasks != null) {
+                hits++;
+                return upcoming(entry.sortedTasks(), today, days);
+            }
+            if (entry.upcoming != null && entry.upcomingVersion == entry.taskVersion
+                    && today.equals(entry.upcomingDay) && days <= entry.upcomingDays) {
+                hits++;
+                return upcoming(entry.upcoming, today, days);
+            }
+            misses++;
+            version = entry.taskVersion;
+            UPCOMING_LOADING.add(userId);
+        }
+
+        try {
+            List<TaskBase> loaded = TaskController.getUpcomingDeadlines(userId, days);
+            synchronized (LOCK) {
+                UserEntry entry = entry(userId);
+                if (entry.taskVersion == version) {
+                    entry.upcoming = Collections.unmodifiableList(loaded);
+                    entry.upcomingDay = today;
+                    entry.upcomingDays = days;
+                    entry.upcomingVersion = version;
+                }
+            }
+            return loaded;
+        } finally {
+            finishLoad(UPCOMING_LOADING, userId);
+        }
+    }
+
+    // Task terurut (deadline, kind, id) dengan deadline dalam (today, today + days], kecuali SELESAI
+    private static List<TaskBase> upcoming(List<TaskBase> tasks, LocalDate today, int days) {
+        LocalDate until = today.plusDays(days);
+        List<TaskBase> upcoming = new ArrayList<>();
+        for (int i = firstAfter(tasks, today); i < tasks.size(); i++) {
+            TaskBase task = tasks.get(i);
+            if (task.getDeadline().isAfter(until)) {
+                break;
+            }
+            if (task.getStatus() != Status.SELESAI) {
+                upcoming.add(task);
+            }
+        }
+        return upcoming;
+    }
+
+    // Sama seperti TaskController.getTasksPage, dilayani dari list terurut di memori
+    public static TaskPage getTasksPage(int userId, TaskCursor after, int limit) {
+        List<TaskBase> tasks = tasks(userId);
+        if (tasks == null) {
+            return TaskController.getTasksPage(userId, after, limit);
+        }
+
+        int from = after == null ? 0 : firstAfter(tasks, after);
+        int to = Math.min(from + limit, tasks.size());
+        List<TaskBase> page = new ArrayList<>(tasks.subList(from, to));
+        TaskCursor next = page.isEmpty() ? after : TaskCursor.after(page.get(page.size() - 1));
+        return new TaskPage(page, next, to < tasks.size());
+    }
+
+    // Course user terurut nama; list tidak bisa diubah
+    public static List<Course> getCourses(int userId) {
+        UserEntry entry = courses(userId);
+        synchronized (LOCK) {
+            return entry.courses != null ? entry.sortedCourses() : List.of();
+        }
+    }
+
+    public static String getCourseName(int userId, int courseId) {
+        UserEntry entry = courses(userId);
+        synchronized (LOCK) {
+            Course course = entry.courses != null ? entry.courses.get(courseId) : null;
+            return course != null ? course.getCourseName() : null;
+        }
+    }
+
+    // ===== Write (dipanggil controller setelah write berhasil) =====
+
+    // Task baru (id dari RETURNING) dipasang ke cache pemiliknya, seperti taskUpdated
+    public static void taskAdded(TaskBase task) {
+        synchronized (LOCK) {
+            UserEntry owner = addTask(task, ownerId(task));
+            if (owner != null) {
+                evictOverflow(owner);
+            }
+        }
+    }
+
+    // Bulk insert: pemilik dicari sekali per course/user, lalu semua task dipasang
+    public static void tasksAdded(List<? extends TaskBase> tasks) {
+        synchronized (LOCK) {
+            Map<Integer, Integer> courseOwners = new HashMap<>();
+            Set<UserEntry> owners = new HashSet<>();
+            for (TaskBase task : tasks) {
+                // Pemilik null (course belum di-cache) juga disimpan, jadi tidak dicari ulang per task
+                Integer ownerId;
+                if (task instanceof AcademicTask academic) {
+                    if (!courseOwners.containsKey(academic.getCourseId())) {
+                        courseOwners.put(academic.getCourseId(), ownerId(academic));
+                    }
+                    ownerId = courseOwners.get(academic.getCourseId());
+                } else {
+                    ownerId = ((PersonalTask) task).getUserId();
+                }
+                UserEntry owner = addTask(task, ownerId);
+                if (owner != null) {
+                    owners.add(owner);
+                }
+            }
+            for (UserEntry owner : owners) {
+                evictOverflow(owner);
+            }
+        }
+    }
+
+    // Patch task di cache dengan versi yang baru disimpan
+    public static void taskUpdated(TaskBase task) {
+        synchronized (LOCK) {
+            for (UserEntry entry : ENTRIES.values()) {
+                if (entry.academicTasks == null) {
+                    continue;
+                }
+                if (task instanceof AcademicTask academic && entry.academicTasks.containsKey(academic.getTaskId())) {
+                    // course_name sudah diisi ulang oleh TaskController.updateAcademicTask
+                    entry.academicTasks.put(academic.getTaskId(), academic);
+                } else if (task instanceof PersonalTask personal && entry.personalTasks.containsKey(personal.getTaskId())) {
+                    entry.personalTasks.put(personal.getTaskId(), personal);
+                } else {
+                    continue;
+                }
+                entry.sortedTasks = null;
+                entry.taskVersion++;
+                return;
+            }
+            staleLoads(ownerId(task));
+        }
+    }
+
+    public static void taskStatusChanged(TaskBase task, Status newStatus) {
+        synchronized (LOCK) {
+            TaskBase cached = findTask(task instanceof AcademicTask, task.getTaskId());
+            if (cached != null) {
+                cached.setStatus(newStatus);
+                return;
+            }
+            staleLoads(ownerId(task));
+        }
+    }
+
+    public static void taskDeleted(boolean academic, int taskId) {
+        synchronized (LOCK) {
+            for (UserEntry entry : ENTRIES.values()) {
+                if (entry.academicTasks == null) {
+                    continue;
+                }
+                Object removed = academic ? entry.academicTasks.remove(taskId) : entry.personalTasks.remove(taskId);
+                if (removed != null) {
+                    entry.sortedTasks = null;
+                    entry.taskVersion++;
+                    cachedRows--;
+                    return;
+                }
+            }
+            staleLoads(null);
+        }
+    }
+
+    public static void coursesChanged(int userId) {
+        synchronized (LOCK) {
+            UserEntry entry = ENTRIES.get(userId);
+            if (entry != null) {
+                cachedRows -= entry.courses == null ? 0 : entry.courses.size();
+                entry.dropCourses();
+            }
+        }
+    }
+
+    // Course dihapus: course dan academic task (cascade) pemiliknya tidak lagi valid
+    public static void courseDeleted(int courseId) {
+        synchronized (LOCK) {
+            UserEntry owner = ownerOfCourse(courseId);
+            if (owner == null) {
+                return;
+            }
+            cachedRows -= owner.rows();
+            owner.dropCourses();
+            owner.dropTasks();
+        }
+    }
+
+    public static void invalidateAll() {
+        synchronized (LOCK) {
+            ENTRIES.clear();
+            cachedRows = 0;
+        }
+    }
+
+    public static CacheStats getStats() {
+        synchronized (LOCK) {
+            return new CacheStats(hits, misses, evictions, bypasses, ENTRIES.size(), cachedRows, maxRows);
+        }
+    }
+
+    public static void logStats() {
+        LOGGER.info("User data cache: " + getStats());
+    }
+
+    // Untuk benchmark; mengosongkan cache
+    public static void setMaxRows(int rows) {
+        synchronized (LOCK) {
+            maxRows = rows;
+            ENTRIES.clear();
+            cachedRows = 0;
+        }
+    }
+
+    // ===== Internal =====
+
+    // List terurut dari cache (dimuat jika belum ada), atau null jika user melebihi batas
+    private static List<TaskBase> tasks(int userId) {
+        int version;
+        synchronized (LOCK) {
+            awaitLoad(TASKS_LOADING, userId);
+            UserEntry entry = entry(userId);
+            if (entry.academicTasks != null) {
+                hits++;
+                return entry.sortedTasks();
+            }
+            if (entry.tasksOversized) {
+                bypasses++;
+                return null;
+            }
+            misses++;
+            version = entry.taskVersion;
+            TASKS_LOADING.add(userId);
+        }
+
+        try {
+            return loadTasks(userId, version);
+        } finally {
+            finishLoad(TASKS_LOADING, userId);
+        }
+    }
+
+    // Query di luar lock; hasil hanya dipasang jika tidak ada write selama query berjalan
+    private static List<TaskBase> loadTasks(int userId, int version) {
+        if (TaskController.countTasksByUserId(userId) > maxRows) {
+            synchronized (LOCK) {
+                UserEntry entry = entry(userId);
+                if (entry.taskVersion == version) {
+                    entry.tasksOversized = true;
+                }
+                bypasses++;
+            }
+            return null;
+        }
+
+        List<TaskBase> loaded = TaskController.getAllTasksByUserId(userId);
+        IntObjectMap<AcademicTask> academic = new IntObjectMap<>(loaded.size());
+        IntObjectMap<PersonalTask> personal = new IntObjectMap<>(loaded.size());
+        for (TaskBase task : loaded) {
+            if (task instanceof AcademicTask academicTask) {
+                academic.put(task.getTaskId(), academicTask);
+            } else {
+                personal.put(task.getTaskId(), (PersonalTask) task);
+            }
+        }
+
+        synchronized (LOCK) {
+            UserEntry entry = entry(userId);
+            if (entry.taskVersion != version || entry.academicTasks != null) {
+                return Collections.unmodifiableList(loaded);
+            }
+            entry.academicTasks = academic;
+            entry.personalTasks = personal;
+            entry.sortedTasks = Collections.unmodifiableList(loaded);
+            cachedRows += loaded.size();
+            evictOverflow(entry);
+            return entry.sortedTasks;
+        }
+    }
+
+    // Entry dengan course sudah dimuat (jika query gagal, courses tetap null)
+    private static UserEntry courses(int userId) {
+        int version;
+        synchronized (LOCK) {
+            awaitLoad(COURSES_LOADING, userId);
+            UserEntry entry = entry(userId);
+            if (entry.courses != null) {
+                hits++;
+                return entry;
+            }
+            misses++;
+            version = entry.courseVersion;
+            COURSES_LOADING.add(userId);
+        }
+
+        try {
+            return loadCourses(userId, version);
+        } finally {
+            finishLoad(COURSES_LOADING, userId);
+        }
+    }
+
+    private static UserEntry loadCourses(int userId, int version) {
+        List<Course> loaded = CourseController.getCoursesByUserId(userId);
+        IntObjectMap<Course> courses = new IntObjectMap<>(loaded.size());
+        for (Course course : loaded) {
+            courses.put(course.getCourseId(), course);
+        }
+
+        synchronized (LOCK) {
+            UserEntry entry = entry(userId);
+            if (entry.courseVersion == version && entry.courses == null) {
+                entry.courses = courses;
+                entry.sortedCourses = Collections.unmodifiableList(loaded);
+                cachedRows += loaded.size();
+                evictOverflow(entry);
+                return entry;
+            }
+            if (entry.courses != null) {
+                return entry;
+            }
+            // Ada write selama query; pakai hasil ini sekali tanpa dipasang ke cache
+            UserEntry detached = new UserEntry(userId);
+            detached.courses = courses;
+            detached.sortedCourses = Collections.unmodifiableList(loaded);
+            return detached;
+        }
+    }
+
+    // Dipanggil dengan LOCK dipegang; interrupt berarti berhenti menunggu dan query sendiri
+    private static void awaitLoad(Set<Integer> loading, int userId) {
+        while (loading.contains(userId)) {
+            try {
+                LOCK.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void finishLoad(Set<Integer> loading, int userId) {
+        synchronized (LOCK) {
+            loading.remove(userId);
+            LOCK.notifyAll();
+        }
+    }
+
+    private static UserEntry entry(int userId) {
+        UserEntry entry = ENTRIES.get(userId);
+        if (entry == null) {
+            entry = new UserEntry(userId);
+            ENTRIES.put(userId, entry);
+        }
+        return entry;
+    }
+
+    private static void evictOverflow(UserEntry keep) {
+        Iterator<UserEntry> eldest = ENTRIES.values().iterator();
+        while (cachedRows > maxRows && eldest.hasNext()) {
+            UserEntry entry = eldest.next();
+            if (entry == keep) {
+                continue;
+            }
+            cachedRows -= entry.rows();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    // Dipanggil dengan LOCK dipegang; mengembalikan entry yang task-nya bertambah
+    private static UserEntry addTask(TaskBase task, Integer ownerId) {
+        if (ownerId == null) {
+            // Course baru tanpa task dan course pemiliknya belum dimuat: pemiliknya hanya bisa
+            // user yang course-nya belum ada di cache (course yang dimuat selalu lengkap)
+            for (UserEntry entry : ENTRIES.values()) {
+                if (entry.courses == null && entry.academicTasks != null) {
+                    cachedRows -= entry.academicTasks.size() + entry.personalTasks.size();
+                    entry.dropTasks();
+                }
+            }
+            staleLoads(null);
+            return null;
+        }
+        UserEntry entry = ENTRIES.get(ownerId);
+        if (entry == null || entry.academicTasks == null) {
+            staleLoads(ownerId);
+            return null;
+        }
+        Object previous = task instanceof AcademicTask academic
+            ? entry.academicTasks.put(academic.getTaskId(), academic)
+            : entry.personalTasks.put(task.getTaskId(), (PersonalTask) task);
+        if (previous == null) {
+            cachedRows++;
+        }
+        entry.sortedTasks = null;
+        entry.taskVersion++;
+        return entry;
+    }
+
+    /**
+     * Write untuk task yang tidak ada di cache: load yang sedang berjalan bisa saja sudah
+     * membaca data sebelum write ini, jadi hasilnya tidak boleh dipasang, dan hasil
+     * deadline terdekat yang tersimpan tidak berlaku lagi. Dipanggil dengan LOCK dipegang;
+     * ownerId null berarti pemilik tidak diketahui.
+     */
+    private static void staleLoads(Integer ownerId) {
+        if (ownerId != null) {
+            UserEntry entry = ENTRIES.get(ownerId);
+            if (entry != null) {
+                entry.taskVersion++;
+            }
+            return;
+        }
+        // Pemilik tidak diketahui: bukan user yang task-nya sudah di cache (task-nya tidak ditemukan)
+        for (UserEntry entry : ENTRIES.values()) {
+            if (entry.academicTasks == null) {
+                entry.taskVersion++;
+            }
+        }
+    }
+
+    // Pemilik personal task tercatat di task; pemilik academic task lewat course-nya
+    private static Integer ownerId(TaskBase task) {
+        if (task instanceof PersonalTask personal) {
+            return personal.getUserId();
+        }
+        UserEntry owner = ownerOfCourse(((AcademicTask) task).getCourseId());
+        return owner != null ? owner.userId : null;
+    }
+
+    private static UserEntry ownerOfCourse(int courseId) {
+        for (UserEntry entry : ENTRIES.values()) {
+            if (entry.courses != null && entry.courses.containsKey(courseId)) {
+                return entry;
+            }
+            if (entry.academicTasks != null && containsCourse(entry.academicTasks, courseId)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsCourse(IntObjectMap<AcademicTask> tasks, int courseId) {
+        boolean[] found = new boolean[1];
+        tasks.forEachValue(task -> found[0] |= task.getCourseId() == courseId);
+        return found[0];
+    }
+
+    private static TaskBase findTask(boolean academic, int taskId) {
+        for (UserEntry entry : ENTRIES.values()) {
+            if (entry.academicTasks == null) {
+                continue;
+            }
+            TaskBase task = academic ? entry.academicTasks.get(taskId) : entry.personalTasks.get(taskId);
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    // Index task pertama dengan deadline setelah date
+    private static int firstAfter(List<TaskBase> tasks, LocalDate date) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tasks.get(mid).getDeadline().isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Index task pertama setelah posisi cursor dalam urutan (deadline, kind, id)
+    private static int firstAfter(List<TaskBase> tasks, TaskCursor cursor) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(tasks.get(mid), cursor) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(TaskBase task, TaskCursor cursor) {
+        int result = task.getDeadline().compareTo(cursor.deadline());
+        if (result == 0) {
+            result = TaskCursor.kindOf(task).compareTo(cursor.kind());
+        }
+        return result != 0 ? result : Integer.compare(task.getTaskId(), cursor.id());
+    }
+}
@@ -0,0 +1,115 @@
+package cache;
+
+import controller.UserController;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Index username di memori untuk cek ketersediaan saat user mengetik di form registrasi.
+ * Bloom filter menjawab "pasti belum dipakai" untuk hampir semua nama baru tanpa
+ * membandingkan string; hanya jika filter bilang "mungkin" nama dicari di sorted set.
+ *
+ * Index dimuat sekali dari database (load(), di thread background) lalu diperbarui lewat
+ * add() setelah registrasi. Hasilnya hanya petunjuk untuk UI: user dari instance lain bisa
+ * mendaftar kapan saja, jadi constraint UNIQUE saat insert tetap yang menentukan.
+ */
+public final class UsernameIndex {
+    // ~10 bit per nama dan 7 hash: false positive sekitar 1%
+    private static final int BITS_PER_NAME = 10;
+    private static final int HASHES = 7;
+    private static final int MIN_CAPACITY = 1024;
+
+    public enum Availability {
+        AVAILABLE,
+        TAKEN,
+        // Index belum dimuat
+        UNKNOWN
+    }
+
+    private static final Object LOCK = new Object();
+    private static final TreeSet<String> NAMES = new TreeSet<>();
+    private static BitSet bloom;
+    private static int capacity;
+    private static boolean loaded;
+
+    private UsernameIndex() {
+    }
+
+    // Baca semua username dari database; aman dipanggil ulang (misalnya setelah panel dibuat lagi)
+    public static void load() {
+        List<String> names = UserController.getAllUsernames();
+        synchronized (LOCK) {
+            NAMES.addAll(names);
+            rebuild();
+            loaded = true;
+        }
+    }
+
+    public static boolean isLoaded() {
+        synchronized (LOCK) {
+            return loaded;
+        }
+    }
+
+    public static Availability check(String username) {
+        synchronized (LOCK) {
+            if (!loaded) {
+                return Availability.UNKNOWN;
+            }
+            if (!mightContain(username)) {
+                return Availability.AVAILABLE;
+            }
+            return NAMES.contains(username) ? Availability.TAKEN : Availability.AVAILABLE;
+        }
+    }
+
+    public static void add(String username) {
+        synchronized (LOCK) {
+            if (!NAMES.add(username) || bloom == null) {
+                return;
+            }
+            if (NAMES.size() > capacity) {
+                rebuild();
+            } else {
+                put(username);
+            }
+        }
+    }
+
+    // Ukuran filter dihitung ulang dari jumlah nama supaya false positive tetap rendah
+    private static void rebuild() {
+        capacity = Math.max(MIN_CAPACITY, NAMES.size() * 2);
+        bloom = new BitSet(capacity * BITS_PER_NAME);
+        for (String name : NAMES) {
+            put(name);
+        }
+    }
+
+    private static void put(String name) {
+        int bits = capacity * BITS_PER_NAME;
+        int h1 = name.hashCode();
+        int h2 = secondHash(h1);
+        for (int i = 0; i < HASHES; i++) {
+            bloom.set(Math.floorMod(h1 + i * h2, bits));
+        }
+    }
+
+    private static boolean mightContain(String name) {
+        int bits = capacity * BITS_PER_NAME;
+        int h1 = name.hashCode();
+        int h2 = secondHash(h1);
+        for (int i = 0; i < HASHES; i++) {
+            if (!bloom.get(Math.floorMod(h1 + i * h2, bits))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher); h2 dibuat ganjil supaya semua posisi terjangkau
+    private static int secondHash(int h1) {
+        int h = h1 * 0x9E3779B9;
+        return (h ^ (h >>> 16)) | 1;
+    }
+}
@@ -1,7 +1,13 @@
 package controller;
 
+import cache.UserDataCache;
 import model.Course;
+import database.BatchInserter;
 import database.DatabaseManager;
+import database.PooledConnection;
+import event.CourseChanged;
+import event.EventBus;
+import monitoring.ControllerCallEvent;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -11,10 +17,12 @@ import java.util.List;
 public class CourseController {
     
     public static List<Course> getCoursesByUserId(int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "getCoursesByUserId", userId);
         List<Course> courses = new ArrayList<>();
         String sql = "SELECT * FROM Courses WHERE user_id = ? ORDER BY course_name";
         
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             
@@ -29,59 +37,112 @@ public class CourseController {
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return courses;
+        return event.finish(courses);
     }
     
-    public static boolean deleteCourse(int courseId) {
+    public static boolean addCourse(Course course) {
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "addCourse", course.getUserId());
+        boolean added = course.saveToDB();
+        if (added) {
+            UserDataCache.coursesChanged(course.getUserId());
+            EventBus.publish(new CourseChanged(course.getCourseId(), course));
+        }
+        return event.finish(added);
+    }
+    
+    // Bulk insert mata kuliah dalam satu transaksi; mengisi courseId setiap course.
+    // Mengembalikan id sesuai urutan list, atau array kosong jika gagal (tidak ada yang tersimpan)
+    public static int[] addCourses(List<Course> courses) {
+        return addCourses(courses, DatabaseManager.getBatchChunkSize());
+    }
+    
+    public static int[] addCourses(List<Course> courses, int chunkSize) {
+        int userId = courses.isEmpty() || courses.stream().anyMatch(course -> course.getUserId() != courses.get(0).getUserId())
+            ? ControllerCallEvent.UNKNOWN_USER : courses.get(0).getUserId();
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "addCourses", userId);
+        String sql = "INSERT INTO Courses (course_name, user_id) VALUES (?, ?)";
         try {
-            // First delete all academic tasks related to this course
-            String deleteTasksSql = "DELETE FROM AcademicTasks WHERE course_id = ?";
-            try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(deleteTasksSql)) {
-                pstmt.setInt(1, courseId);
-                pstmt.executeUpdate();
+            int[] ids = BatchInserter.insertAll(sql, courses, chunkSize, (pstmt, course) -> {
+                pstmt.setString(1, course.getCourseName());
+                pstmt.setInt(2, course.getUserId());
+            });
+            for (int i = 0; i < ids.length; i++) {
+                courses.get(i).setCourseId(ids[i]);
             }
-            
-            // Then delete the course
-            String deleteCourseSql = "DELETE FROM Courses WHERE course_id = ?";
-            try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(deleteCourseSql)) {
-                pstmt.setInt(1, courseId);
-                return pstmt.executeUpdate() > 0;
+            courses.stream().mapToInt(Course::getUserId).distinct().forEach(UserDataCache::coursesChanged);
+            courses.forEach(course -> EventBus.publish(new CourseChanged(course.getCourseId(), course)));
+            return event.finish(ids);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return event.finish(new int[0]);
+        }
+    }
+    
+    // Academic task ikut terhapus lewat ON DELETE CASCADE; semuanya dalam satu transaksi.
+    // userId pemilik course, untuk event JFR
+    public static CourseDeletion deleteCourse(int courseId, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "deleteCourse", userId);
+        try {
+            CourseDeletion result = DatabaseManager.inTransaction(conn -> {
+                // changes() SQLite tidak menghitung row dari cascade, jadi dihitung dulu
+                int academicTasks;
+                try (PreparedStatement pstmt = conn.prepareStatement("SELECT COUNT(*) FROM AcademicTasks WHERE course_id = ?")) {
+                    pstmt.setInt(1, courseId);
+                    ResultSet rs = pstmt.executeQuery();
+                    academicTasks = rs.getInt(1);
+                }
+                
+                try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM Courses WHERE course_id = ?")) {
+                    pstmt.setInt(1, courseId);
+                    int courses = pstmt.executeUpdate();
+                    return new CourseDeletion(courses, courses > 0 ? academicTasks : 0);
+                }
+            });
+            if (result.deleted()) {
+                UserDataCache.courseDeleted(courseId);
+                EventBus.publish(new CourseChanged(courseId, null));
             }
+            return event.finish(result);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(CourseDeletion.NONE);
         }
     }
     
     public static boolean isCourseNameExists(String courseName, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "isCourseNameExists", userId);
         String sql = "SELECT COUNT(*) FROM Courses WHERE course_name = ? AND user_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, courseName);
             pstmt.setInt(2, userId);
             ResultSet rs = pstmt.executeQuery();
-            return rs.getInt(1) > 0;
+            return event.finish(rs.getInt(1) > 0);
         } catch (SQLException e) {
             e.printStackTrace();
-            return true; // Assume exists to be safe
+            return event.finish(true); // Assume exists to be safe
         }
     }
     
     public static Course getCourseById(int courseId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("CourseController", "getCourseById", ControllerCallEvent.UNKNOWN_USER);
         String sql = "SELECT * FROM Courses WHERE course_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, courseId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return new Course(
+                event.setUserId(rs.getInt("user_id"));
+                return event.finish(new Course(
                     rs.getInt("course_id"),
                     rs.getString("course_name"),
                     rs.getInt("user_id")
-                );
+                ));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return null;
+        return event.finish(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package controller;
+
+// Hasil deleteCourse: jumlah row yang terhapus per tabel
+public record CourseDeletion(int courses, int academicTasks) {
+    public static final CourseDeletion NONE = new CourseDeletion(0, 0);
+
+    public boolean deleted() {
+        return courses > 0;
+    }
+}
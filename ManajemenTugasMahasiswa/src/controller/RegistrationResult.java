@@ -0,0 +1,8 @@
+package controller;
+
+// Hasil registerUser; USERNAME_TAKEN berasal dari constraint UNIQUE pada Users.name
+public enum RegistrationResult {
+    CREATED,
+    USERNAME_TAKEN,
+    FAILED
+}
@@ -1,20 +1,54 @@
 package controller;
 
+import cache.UserDataCache;
 import model.AcademicTask;
 import model.PersonalTask;
 import model.abstractes.TaskBase;
 import model.enums.Status;
+import database.BatchInserter;
+import database.ColumnCodec;
 import database.DatabaseManager;
+import database.PooledConnection;
+import event.EventBus;
+import event.TaskCreated;
+import event.TaskDeleted;
+import event.TaskUpdated;
+import monitoring.ControllerCallEvent;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class TaskController {
+    // Jumlah task user tanpa memuat row-nya; kedua bagian dihitung dari index
+    public static int countTasksByUserId(int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "countTasksByUserId", userId);
+        String sql = """
+            SELECT (SELECT COUNT(*) FROM AcademicTasks at JOIN Courses c ON c.course_id = at.course_id WHERE c.user_id = ?)
+                 + (SELECT COUNT(*) FROM PersonalTasks WHERE user_id = ?)
+            """;
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, userId);
+            ResultSet rs = pstmt.executeQuery();
+            return event.finish(rs.next() ? rs.getInt(1) : 0);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return event.finish(0);
+        }
+    }
     
     public static List<AcademicTask> getAcademicTasksByUserId(int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getAcademicTasksByUserId", userId);
         List<AcademicTask> tasks = new ArrayList<>();
         String sql = """
             SELECT at.*, c.course_name 
@@ -24,7 +58,8 @@ public class TaskController {
             ORDER BY at.deadline ASC
         """;
         
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             
@@ -33,23 +68,26 @@ public class TaskController {
                     rs.getInt("task_id"),
                     rs.getString("title"),
                     rs.getString("description"),
-                    LocalDate.parse(rs.getString("deadline")),
-                    Status.fromString(rs.getString("status")), // Gunakan method konversi yang aman
-                    rs.getInt("course_id")
+                    ColumnCodec.decodeDeadline(rs.getLong("deadline")),
+                    ColumnCodec.decodeStatus(rs.getInt("status")),
+                    rs.getInt("course_id"),
+                    rs.getString("course_name") // Sudah ada dari JOIN, tidak perlu query per task
                 );
                 tasks.add(task);
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return tasks;
+        return event.finish(tasks);
     }
     
     public static List<PersonalTask> getPersonalTasksByUserId(int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getPersonalTasksByUserId", userId);
         List<PersonalTask> tasks = new ArrayList<>();
         String sql = "SELECT * FROM PersonalTasks WHERE user_id = ? ORDER BY deadline ASC";
         
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             
@@ -58,8 +96,8 @@ public class TaskController {
                     rs.getInt("personal_task_id"),
                     rs.getString("title"),
                     rs.getString("description"),
-                    LocalDate.parse(rs.getString("deadline")),
-                    Status.fromString(rs.getString("status")), // Gunakan method konversi yang aman
+                    ColumnCodec.decodeDeadline(rs.getLong("deadline")),
+                    ColumnCodec.decodeStatus(rs.getInt("status")),
                     rs.getString("category"),
                     rs.getInt("user_id")
                 );
@@ -68,204 +106,639 @@ public class TaskController {
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return tasks;
+        return event.finish(tasks);
     }
     
+    // Academic dan personal task dalam satu query, sudah terurut deadline dari SQLite
+    private static final String ALL_TASKS_SQL = """
+        SELECT 'A' AS kind, at.task_id AS id, at.title, at.description, at.deadline, at.status,
+               at.course_id, c.course_name, NULL AS category, c.user_id
+        FROM AcademicTasks at
+        JOIN Courses c ON at.course_id = c.course_id
+        WHERE c.user_id = ?
+        UNION ALL
+        SELECT 'P' AS kind, pt.personal_task_id AS id, pt.title, pt.description, pt.deadline, pt.status,
+               NULL AS course_id, NULL AS course_name, pt.category, pt.user_id
+        FROM PersonalTasks pt
+        WHERE pt.user_id = ?
+        ORDER BY deadline ASC, kind ASC, id ASC
+    """;
+    
     public static List<TaskBase> getAllTasksByUserId(int userId) {
         List<TaskBase> allTasks = new ArrayList<>();
-        allTasks.addAll(getAcademicTasksByUserId(userId));
-        allTasks.addAll(getPersonalTasksByUserId(userId));
-        
-        // Sort by deadline
-        allTasks.sort((t1, t2) -> t1.getDeadline().compareTo(t2.getDeadline()));
+        forEachTaskByUserId(userId, allTasks::add);
         return allTasks;
     }
     
-    // Method untuk menambah Academic Task
-    public static boolean addAcademicTask(AcademicTask task) {
-        String sql = "INSERT INTO AcademicTasks (title, description, deadline, status, course_id) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+    // Mengirim setiap task ke consumer begitu row-nya dibaca, tanpa menampung list perantara
+    public static void forEachTaskByUserId(int userId, Consumer<TaskBase> consumer) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "forEachTaskByUserId", userId);
+        int rows = 0;
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(ALL_TASKS_SQL)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, userId);
+            ResultSet rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                consumer.accept(mapTaskRow(rs));
+                rows++;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        event.finishWithRows(rows);
+    }
+    
+    /**
+     * Satu halaman task user dengan keyset pagination pada (deadline, kind, id).
+     * Setiap mata kuliah dan personal task dibaca lewat index-nya sendiri dengan LIMIT,
+     * jadi biaya per halaman bergantung pada jumlah course dan ukuran halaman,
+     * bukan pada total task user. after = null untuk halaman pertama.
+     */
+    public static TaskPage getTasksPage(int userId, TaskCursor after, int limit) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getTasksPage", userId);
+        List<TaskBase> tasks = new ArrayList<>();
+        long afterDeadline = after == null ? Long.MIN_VALUE : ColumnCodec.encodeDeadline(after.deadline());
+        
+        try (PooledConnection conn = DatabaseManager.acquireRead()) {
+            List<Integer> courseIds = new ArrayList<>();
+            try (PreparedStatement pstmt = conn.prepareStatement("SELECT course_id FROM Courses WHERE user_id = ?")) {
+                pstmt.setInt(1, userId);
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    courseIds.add(rs.getInt(1));
+                }
+            }
+            
+            try (PreparedStatement pstmt = conn.prepareStatement(buildPageSql(courseIds.size()))) {
+                int index = 1;
+                for (int courseId : courseIds) {
+                    pstmt.setInt(index++, courseId);
+                    pstmt.setLong(index++, afterDeadline);
+                    pstmt.setLong(index++, afterDeadline);
+                    pstmt.setInt(index++, after == null ? -1 : after.idThresholdFor(TaskCursor.ACADEMIC));
+                    pstmt.setInt(index++, limit + 1);
+                }
+                pstmt.setInt(index++, userId);
+                pstmt.setLong(index++, afterDeadline);
+                pstmt.setLong(index++, afterDeadline);
+                pstmt.setInt(index++, after == null ? -1 : after.idThresholdFor(TaskCursor.PERSONAL));
+                pstmt.setInt(index++, limit + 1);
+                pstmt.setInt(index, limit + 1);
+                
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    tasks.add(mapTaskRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        // Satu row ekstra hanya untuk mengetahui apakah masih ada halaman berikutnya
+        boolean hasMore = tasks.size() > limit;
+        if (hasMore) {
+            tasks.remove(tasks.size() - 1);
+        }
+        TaskCursor next = tasks.isEmpty() ? after : TaskCursor.after(tasks.get(tasks.size() - 1));
+        return event.finish(new TaskPage(tasks, next, hasMore));
+    }
+    
+    private static String buildPageSql(int courseCount) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < courseCount; i++) {
+            sql.append("""
+                SELECT * FROM (
+                    SELECT 'A' AS kind, at.task_id AS id, at.title, at.description, at.deadline, at.status,
+                           at.course_id, c.course_name, NULL AS category, c.user_id
+                    FROM AcademicTasks at
+                    JOIN Courses c ON c.course_id = at.course_id
+                    WHERE at.course_id = ? AND at.deadline >= ? AND (at.deadline > ? OR at.task_id > ?)
+                    ORDER BY at.deadline, at.task_id
+                    LIMIT ?
+                )
+                UNION ALL
+                """);
+        }
+        sql.append("""
+            SELECT * FROM (
+                SELECT 'P' AS kind, pt.personal_task_id AS id, pt.title, pt.description, pt.deadline, pt.status,
+                       NULL AS course_id, NULL AS course_name, pt.category, pt.user_id
+                FROM PersonalTasks pt
+                WHERE pt.user_id = ? AND pt.deadline >= ? AND (pt.deadline > ? OR pt.personal_task_id > ?)
+                ORDER BY pt.deadline, pt.personal_task_id
+                LIMIT ?
+            )
+            ORDER BY deadline, kind, id
+            LIMIT ?
+            """);
+        return sql.toString();
+    }
+    
+    // Row dari query UNION ALL dengan kolom kind sebagai pembeda ('A' = academic, 'P' = personal).
+    // Kolom dibaca lewat index (urutan SELECT di ALL_TASKS_SQL) supaya tidak ada lookup nama per row
+    private static TaskBase mapTaskRow(ResultSet rs) throws SQLException {
+        if ("A".equals(rs.getString(1))) {
+            return new AcademicTask(
+                rs.getInt(2),
+                rs.getString(3),
+                rs.getString(4),
+                ColumnCodec.decodeDeadline(rs.getLong(5)),
+                ColumnCodec.decodeStatus(rs.getInt(6)),
+                rs.getInt(7),
+                rs.getString(8)
+            );
+        }
+        return new PersonalTask(
+            rs.getInt(2),
+            rs.getString(3),
+            rs.getString(4),
+            ColumnCodec.decodeDeadline(rs.getLong(5)),
+            ColumnCodec.decodeStatus(rs.getInt(6)),
+            rs.getString(9),
+            rs.getInt(10)
+        );
+    }
+    
+    // Method untuk menambah Academic Task; userId pemilik course, untuk event JFR
+    public static boolean addAcademicTask(AcademicTask task, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "addAcademicTask", userId);
+        // RETURNING mengembalikan id baru dalam statement yang sama, untuk event TaskCreated
+        String sql = "INSERT INTO AcademicTasks (title, description, deadline, status, course_id) VALUES (?, ?, ?, ?, ?) RETURNING task_id";
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, task.getTitle());
             pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDeadline().toString());
-            pstmt.setString(4, task.getStatus().toDatabaseString()); // Gunakan method untuk database
+            pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+            pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
             pstmt.setInt(5, task.getCourseId());
-            return pstmt.executeUpdate() > 0;
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return event.finish(false);
+            }
+            task.setTaskId(rs.getInt(1));
+            if (task.getCourseName() == null) {
+                task.setCourseName(lookupCourseName(conn, task.getCourseId()));
+            }
+            UserDataCache.taskAdded(task);
+            EventBus.publish(new TaskCreated(task));
+            return event.finish(true);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(false);
+        }
+    }
+    
+    // Subscriber event menampilkan nama course, jadi task yang dipublikasikan harus membawanya
+    private static String lookupCourseName(PooledConnection conn, int courseId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT course_name FROM Courses WHERE course_id = ?")) {
+            pstmt.setInt(1, courseId);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? rs.getString(1) : null;
         }
     }
     
     // Method untuk menambah Personal Task
     public static boolean addPersonalTask(PersonalTask task) {
-        String sql = "INSERT INTO PersonalTasks (title, description, deadline, status, category, user_id) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "addPersonalTask", task.getUserId());
+        String sql = "INSERT INTO PersonalTasks (title, description, deadline, status, category, user_id) VALUES (?, ?, ?, ?, ?, ?) RETURNING personal_task_id";
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, task.getTitle());
             pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDeadline().toString());
-            pstmt.setString(4, task.getStatus().toDatabaseString()); // Gunakan method untuk database
+            pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+            pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
             pstmt.setString(5, task.getCategory());
             pstmt.setInt(6, task.getUserId());
-            return pstmt.executeUpdate() > 0;
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return event.finish(false);
+            }
+            task.setTaskId(rs.getInt(1));
+            UserDataCache.taskAdded(task);
+            EventBus.publish(new TaskCreated(task));
+            return event.finish(true);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return event.finish(false);
+        }
+    }
+    
+    // Bulk insert Academic Task dalam satu transaksi; mengisi taskId setiap task.
+    // Mengembalikan id sesuai urutan list, atau array kosong jika gagal (tidak ada yang tersimpan)
+    public static int[] addAcademicTasks(List<AcademicTask> tasks, int userId) {
+        return addAcademicTasks(tasks, userId, DatabaseManager.getBatchChunkSize());
+    }
+    
+    public static int[] addAcademicTasks(List<AcademicTask> tasks, int userId, int chunkSize) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "addAcademicTasks", userId);
+        String sql = "INSERT INTO AcademicTasks (title, description, deadline, status, course_id) VALUES (?, ?, ?, ?, ?)";
+        try {
+            int[] ids = BatchInserter.insertAll(sql, tasks, chunkSize, (pstmt, task) -> {
+                pstmt.setString(1, task.getTitle());
+                pstmt.setString(2, task.getDescription());
+                pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+                pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
+                pstmt.setInt(5, task.getCourseId());
+            });
+            for (int i = 0; i < ids.length; i++) {
+                tasks.get(i).setTaskId(ids[i]);
+            }
+            UserDataCache.tasksAdded(tasks);
+            tasks.forEach(task -> EventBus.publish(new TaskCreated(task)));
+            return event.finish(ids);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(new int[0]);
         }
     }
     
-    // Method untuk update Academic Task
-    public static boolean updateAcademicTask(AcademicTask task) {
+    // Bulk insert Personal Task dalam satu transaksi; sama seperti addAcademicTasks
+    public static int[] addPersonalTasks(List<PersonalTask> tasks) {
+        return addPersonalTasks(tasks, DatabaseManager.getBatchChunkSize());
+    }
+    
+    public static int[] addPersonalTasks(List<PersonalTask> tasks, int chunkSize) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "addPersonalTasks", commonUserId(tasks));
+        String sql = "INSERT INTO PersonalTasks (title, description, deadline, status, category, user_id) VALUES (?, ?, ?, ?, ?, ?)";
+        try {
+            int[] ids = BatchInserter.insertAll(sql, tasks, chunkSize, (pstmt, task) -> {
+                pstmt.setString(1, task.getTitle());
+                pstmt.setString(2, task.getDescription());
+                pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+                pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
+                pstmt.setString(5, task.getCategory());
+                pstmt.setInt(6, task.getUserId());
+            });
+            for (int i = 0; i < ids.length; i++) {
+                tasks.get(i).setTaskId(ids[i]);
+            }
+            UserDataCache.tasksAdded(tasks);
+            tasks.forEach(task -> EventBus.publish(new TaskCreated(task)));
+            return event.finish(ids);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return event.finish(new int[0]);
+        }
+    }
+    
+    // Method untuk update Academic Task; userId pemilik course, untuk event JFR
+    public static boolean updateAcademicTask(AcademicTask task, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "updateAcademicTask", userId);
         String sql = "UPDATE AcademicTasks SET title = ?, description = ?, deadline = ?, status = ?, course_id = ? WHERE task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, task.getTitle());
             pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDeadline().toString());
-            pstmt.setString(4, task.getStatus().toDatabaseString()); // Gunakan method untuk database
+            pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+            pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
             pstmt.setInt(5, task.getCourseId());
             pstmt.setInt(6, task.getTaskId());
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            if (updated) {
+                // course_id bisa berganti
+                task.setCourseName(lookupCourseName(conn, task.getCourseId()));
+                UserDataCache.taskUpdated(task);
+                EventBus.publish(new TaskUpdated(task));
+            }
+            return event.finish(updated);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(false);
         }
     }
     
     // Method untuk update Personal Task
     public static boolean updatePersonalTask(PersonalTask task) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "updatePersonalTask", task.getUserId());
         String sql = "UPDATE PersonalTasks SET title = ?, description = ?, deadline = ?, status = ?, category = ? WHERE personal_task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, task.getTitle());
             pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDeadline().toString());
-            pstmt.setString(4, task.getStatus().toDatabaseString()); // Gunakan method untuk database
+            pstmt.setLong(3, ColumnCodec.encodeDeadline(task.getDeadline()));
+            pstmt.setInt(4, ColumnCodec.encodeStatus(task.getStatus()));
             pstmt.setString(5, task.getCategory());
             pstmt.setInt(6, task.getTaskId());
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            if (updated) {
+                UserDataCache.taskUpdated(task);
+                EventBus.publish(new TaskUpdated(task));
+            }
+            return event.finish(updated);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(false);
         }
     }
     
-    // Method untuk update status saja (lebih efisien untuk popup detail)
-    public static boolean updateTaskStatus(TaskBase task, Status newStatus) {
+    // Method untuk update status saja (lebih efisien untuk popup detail); userId untuk event JFR
+    public static boolean updateTaskStatus(TaskBase task, Status newStatus, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "updateTaskStatus", userId);
         if (task instanceof AcademicTask) {
             String sql = "UPDATE AcademicTasks SET status = ? WHERE task_id = ?";
-            try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
-                pstmt.setString(1, newStatus.toDatabaseString()); // Gunakan method untuk database
+            try (PooledConnection conn = DatabaseManager.acquireWrite();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, ColumnCodec.encodeStatus(newStatus));
                 pstmt.setInt(2, ((AcademicTask) task).getTaskId());
-                return pstmt.executeUpdate() > 0;
+                boolean updated = pstmt.executeUpdate() > 0;
+                if (updated) {
+                    UserDataCache.taskStatusChanged(task, newStatus);
+                    task.setStatus(newStatus);
+                    EventBus.publish(new TaskUpdated(task));
+                }
+                return event.finish(updated);
             } catch (SQLException e) {
                 e.printStackTrace();
-                return false;
+                return event.finish(false);
             }
         } else if (task instanceof PersonalTask) {
             String sql = "UPDATE PersonalTasks SET status = ? WHERE personal_task_id = ?";
-            try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
-                pstmt.setString(1, newStatus.toDatabaseString()); // Gunakan method untuk database
+            try (PooledConnection conn = DatabaseManager.acquireWrite();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, ColumnCodec.encodeStatus(newStatus));
                 pstmt.setInt(2, ((PersonalTask) task).getTaskId());
-                return pstmt.executeUpdate() > 0;
+                boolean updated = pstmt.executeUpdate() > 0;
+                if (updated) {
+                    UserDataCache.taskStatusChanged(task, newStatus);
+                    task.setStatus(newStatus);
+                    EventBus.publish(new TaskUpdated(task));
+                }
+                return event.finish(updated);
             } catch (SQLException e) {
                 e.printStackTrace();
-                return false;
+                return event.finish(false);
             }
         }
-        return false;
+        return event.finish(false);
     }
     
-    public static boolean deleteAcademicTask(int taskId) {
+    // userId pemilik task, untuk event JFR
+    public static boolean deleteAcademicTask(int taskId, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "deleteAcademicTask", userId);
         String sql = "DELETE FROM AcademicTasks WHERE task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, taskId);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            if (deleted) {
+                UserDataCache.taskDeleted(true, taskId);
+                EventBus.publish(new TaskDeleted(true, taskId));
+            }
+            return event.finish(deleted);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(false);
         }
     }
     
-    public static boolean deletePersonalTask(int taskId) {
+    public static boolean deletePersonalTask(int taskId, int userId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "deletePersonalTask", userId);
         String sql = "DELETE FROM PersonalTasks WHERE personal_task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, taskId);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            if (deleted) {
+                UserDataCache.taskDeleted(false, taskId);
+                EventBus.publish(new TaskDeleted(false, taskId));
+            }
+            return event.finish(deleted);
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
+            return event.finish(false);
         }
     }
     
+    // Task yang belum selesai dengan deadline setelah hari ini sampai hari ini + days
     public static List<TaskBase> getUpcomingDeadlines(int userId, int days) {
-        List<TaskBase> upcomingTasks = new ArrayList<>();
         LocalDate today = LocalDate.now();
-        LocalDate futureDate = today.plusDays(days);
+        return getTasksDueBetween(userId, today.plusDays(1), today.plusDays(days), EnumSet.of(Status.SELESAI), 0);
+    }
+    
+    /**
+     * Task user dengan deadline dalam [from, to] (inklusif), kecuali status di excludedStatuses,
+     * urut (deadline, kind, id). limit <= 0 berarti tanpa batas.
+     * Rentang tanggal dijalankan lewat index (user_id, deadline) dan (course_id, deadline),
+     * jadi biayanya mengikuti jumlah hasil, bukan seluruh riwayat task user.
+     */
+    public static List<TaskBase> getTasksDueBetween(int userId, LocalDate from, LocalDate to, Set<Status> excludedStatuses, int limit) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getTasksDueBetween", userId);
+        List<TaskBase> tasks = new ArrayList<>();
+        List<Integer> excluded = new ArrayList<>();
+        for (Status status : excludedStatuses) {
+            excluded.add(ColumnCodec.encodeStatus(status));
+        }
+        String sql = """
+            SELECT 'A' AS kind, at.task_id AS id, at.title, at.description, at.deadline, at.status,
+                   at.course_id, c.course_name, NULL AS category, c.user_id
+            FROM Courses c
+            JOIN AcademicTasks at ON at.course_id = c.course_id
+            WHERE c.user_id = ? AND at.deadline BETWEEN ? AND ?%s
+            UNION ALL
+            SELECT 'P' AS kind, pt.personal_task_id AS id, pt.title, pt.description, pt.deadline, pt.status,
+                   NULL AS course_id, NULL AS course_name, pt.category, pt.user_id
+            FROM PersonalTasks pt
+            WHERE pt.user_id = ? AND pt.deadline BETWEEN ? AND ?%s
+            ORDER BY deadline ASC, kind ASC, id ASC
+            LIMIT ?
+            """.formatted(notInFilter("at.status", excluded.size()), notInFilter("pt.status", excluded.size()));
         
-        for (TaskBase task : getAllTasksByUserId(userId)) {
-            if (task.getDeadline().isAfter(today) && 
-                task.getDeadline().isBefore(futureDate.plusDays(1)) &&
-                task.getStatus() != Status.SELESAI) {
-                upcomingTasks.add(task);
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (int arm = 0; arm < 2; arm++) {
+                pstmt.setInt(index++, userId);
+                pstmt.setLong(index++, ColumnCodec.encodeDeadline(from));
+                pstmt.setLong(index++, ColumnCodec.encodeDeadline(to));
+                for (int status : excluded) {
+                    pstmt.setInt(index++, status);
+                }
+            }
+            pstmt.setInt(index, limit > 0 ? limit : -1);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                tasks.add(mapTaskRow(rs));
             }
+        } catch (SQLException e) {
+            e.printStackTrace();
         }
-        return upcomingTasks;
+        return event.finish(tasks);
     }
     
-    public static String getCourseName(int courseId) {
-        String sql = "SELECT course_name FROM Courses WHERE course_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
-            pstmt.setInt(1, courseId);
+    // User id yang sama untuk semua item bulk insert, atau UNKNOWN_USER jika campuran/kosong
+    static int commonUserId(List<? extends PersonalTask> tasks) {
+        int userId = tasks.isEmpty() ? ControllerCallEvent.UNKNOWN_USER : tasks.get(0).getUserId();
+        for (PersonalTask task : tasks) {
+            if (task.getUserId() != userId) {
+                return ControllerCallEvent.UNKNOWN_USER;
+            }
+        }
+        return userId;
+    }
+    
+    private static String notInFilter(String column, int count) {
+        if (count == 0) {
+            return "";
+        }
+        return " AND " + column + " NOT IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+    
+    /**
+     * Cari task user berdasarkan judul dan deskripsi lewat index FTS5 TaskSearch.
+     * Semua kata harus ada; kata terakhir diperlakukan sebagai prefix karena masih diketik
+     * ("laporan prak" cocok dengan "Laporan Praktikum"). Semua task yang cocok diranking
+     * bm25 oleh FTS5 dengan bobot judul dua kali deskripsi (kolom owner tidak ikut dinilai);
+     * LIMIT baru diterapkan setelah ranking. Skor sama: task lebih baru didahulukan.
+     */
+    public static List<TaskBase> searchTasks(int userId, String text, int limit) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "searchTasks", userId);
+        List<TaskBase> tasks = new ArrayList<>();
+        List<String> terms = tokenizeSearch(text);
+        if (terms.isEmpty()) {
+            return event.finish(tasks);
+        }
+        String sql = """
+            WITH hits AS MATERIALIZED (
+                SELECT rowid, bm25(TaskSearch, 2.0, 1.0, 0.0) AS score FROM TaskSearch
+                WHERE TaskSearch MATCH ?
+                ORDER BY score, rowid DESC
+                LIMIT ?
+            )
+            SELECT 'A' AS kind, at.task_id AS id, at.title, at.description, at.deadline, at.status,
+                   at.course_id, c.course_name, NULL AS category, c.user_id, h.score, h.rowid
+            FROM hits h
+            JOIN AcademicTasks at ON at.task_id = h.rowid / 2
+            JOIN Courses c ON c.course_id = at.course_id
+            WHERE h.rowid % 2 = 0
+            UNION ALL
+            SELECT 'P' AS kind, pt.personal_task_id AS id, pt.title, pt.description, pt.deadline, pt.status,
+                   NULL AS course_id, NULL AS course_name, pt.category, pt.user_id, h.score, h.rowid
+            FROM hits h
+            JOIN PersonalTasks pt ON pt.personal_task_id = h.rowid / 2
+            WHERE h.rowid % 2 = 1
+            ORDER BY 11, 12 DESC
+            """;
+        
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, toMatchQuery(userId, terms));
+            pstmt.setInt(2, limit > 0 ? limit : -1);
             ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getString("course_name");
+            while (rs.next()) {
+                tasks.add(mapTaskRow(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return "Unknown Course";
+        return event.finish(tasks);
+    }
+    
+    // Tokenisasi yang sama dengan tokenizer unicode61 remove_diacritics 2 di TaskSearch
+    private static List<String> tokenizeSearch(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        // Normalizer dan regex hanya untuk teks yang memang punya karakter non-ASCII
+        String normalized = isAscii(text) ? text.toLowerCase(Locale.ROOT)
+            : Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i))) {
+                token.append(normalized.charAt(i));
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+    
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Setiap kata di-quote, jadi operator FTS5 yang diketik user tidak berlaku. Kata selain
+    // yang terakhir dicocokkan persis: prefix kata panjang harus menggabungkan doclist
+    // semua term dengan prefix itu, sedangkan kata persis dibaca bertahap dari index
+    static String toMatchQuery(int userId, List<String> terms) {
+        List<String> phrases = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            phrases.add("\"" + terms.get(i) + "\"" + (i == terms.size() - 1 ? "*" : ""));
+        }
+        return "owner : u" + userId + " AND {title description} : (" + String.join(" AND ", phrases) + ")";
     }
     
-    // Method untuk mendapatkan task berdasarkan ID
+    // Nama mata kuliah untuk task yang belum membawa course_name dari JOIN
+    public static String getCourseName(AcademicTask task, int userId) {
+        if (task.getCourseName() != null) {
+            return task.getCourseName();
+        }
+        String courseName = UserDataCache.getCourseName(userId, task.getCourseId());
+        return courseName != null ? courseName : "Unknown Course";
+    }
+    
+    // Method untuk mendapatkan task berdasarkan ID; pemiliknya dicatat ke event dari row
     public static AcademicTask getAcademicTaskById(int taskId) {
-        String sql = "SELECT * FROM AcademicTasks WHERE task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getAcademicTaskById", ControllerCallEvent.UNKNOWN_USER);
+        String sql = """
+            SELECT at.*, c.course_name, c.user_id
+            FROM AcademicTasks at
+            JOIN Courses c ON at.course_id = c.course_id
+            WHERE at.task_id = ?
+        """;
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, taskId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
-                return new AcademicTask(
+                event.setUserId(rs.getInt("user_id"));
+                return event.finish(new AcademicTask(
                     rs.getInt("task_id"),
                     rs.getString("title"),
                     rs.getString("description"),
-                    LocalDate.parse(rs.getString("deadline")),
-                    Status.fromString(rs.getString("status")), // Gunakan method konversi yang aman
-                    rs.getInt("course_id")
-                );
+                    ColumnCodec.decodeDeadline(rs.getLong("deadline")),
+                    ColumnCodec.decodeStatus(rs.getInt("status")),
+                    rs.getInt("course_id"),
+                    rs.getString("course_name")
+                ));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return null;
+        return event.finish(null);
     }
     
     public static PersonalTask getPersonalTaskById(int taskId) {
+        ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getPersonalTaskById", ControllerCallEvent.UNKNOWN_USER);
         String sql = "SELECT * FROM PersonalTasks WHERE personal_task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, taskId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
-                return new PersonalTask(
+                event.setUserId(rs.getInt("user_id"));
+                return event.finish(new PersonalTask(
                     rs.getInt("personal_task_id"),
                     rs.getString("title"),
                     rs.getString("description"),
-                    LocalDate.parse(rs.getString("deadline")),
-                    Status.fromString(rs.getString("status")), // Gunakan method konversi yang aman
+                    ColumnCodec.decodeDeadline(rs.getLong("deadline")),
+                    ColumnCodec.decodeStatus(rs.getInt("status")),
                     rs.getString("category"),
                     rs.getInt("user_id")
-                );
+                ));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return null;
+        return event.finish(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package controller;
+
+import model.AcademicTask;
+import model.abstractes.TaskBase;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+// Posisi keyset dalam daftar task yang diurutkan (deadline, kind, id)
+public record TaskCursor(LocalDate deadline, String kind, int id) {
+    public static final String ACADEMIC = "A";
+    public static final String PERSONAL = "P";
+
+    // (deadline, kind, id), sama dengan ORDER BY di TaskController
+    public static final Comparator<TaskBase> ORDER = Comparator
+        .comparing(TaskBase::getDeadline)
+        .thenComparing(TaskCursor::kindOf)
+        .thenComparingInt(TaskBase::getTaskId);
+
+    public static TaskCursor after(TaskBase task) {
+        return new TaskCursor(task.getDeadline(), kindOf(task), task.getTaskId());
+    }
+
+    public static String kindOf(TaskBase task) {
+        return task instanceof AcademicTask ? ACADEMIC : PERSONAL;
+    }
+
+    // Batas id untuk satu sumber (academic/personal) pada deadline yang sama dengan cursor:
+    // sumber yang kind-nya lebih kecil sudah habis, yang lebih besar belum mulai
+    int idThresholdFor(String armKind) {
+        int compare = armKind.compareTo(kind);
+        if (compare < 0) {
+            return Integer.MAX_VALUE;
+        }
+        return compare == 0 ? id : -1;
+    }
+}
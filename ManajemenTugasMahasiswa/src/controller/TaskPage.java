@@ -0,0 +1,8 @@
+package controller;
+
+import model.abstractes.TaskBase;
+import java.util.List;
+
+// Satu halaman hasil getTasksPage; nextCursor dipakai untuk meminta halaman berikutnya
+public record TaskPage(List<TaskBase> tasks, TaskCursor nextCursor, boolean hasMore) {
+}
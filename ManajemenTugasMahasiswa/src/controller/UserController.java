@@ -2,47 +2,124 @@ package controller;
 
 import model.User;
 import database.DatabaseManager;
+import database.PooledConnection;
+import monitoring.ControllerCallEvent;
+import org.sqlite.SQLiteException;
+import service.PasswordHasher;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class UserController {
+    private static final int SQLITE_CONSTRAINT = 19;
+    private static final int SQLITE_CONSTRAINT_UNIQUE = 2067;
     
+    // Dipakai saat username tidak ada, supaya waktu respons sama dengan password salah
+    private static final String DUMMY_HASH = PasswordHasher.hash("dummy");
+    
+    /**
+     * Cocokkan password dengan hash PBKDF2 yang tersimpan. Password plaintext lama
+     * (atau hash dengan iterasi lebih rendah) di-hash ulang setelah login berhasil.
+     * Mahal (ratusan milidetik): panggil dari thread background.
+     */
     public static User authenticateUser(String username, String password) {
-        String sql = "SELECT * FROM Users WHERE name = ? AND password = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        ControllerCallEvent event = ControllerCallEvent.begin("UserController", "authenticateUser", ControllerCallEvent.UNKNOWN_USER);
+        String sql = "SELECT user_id, name, password FROM Users WHERE name = ?";
+        User user = null;
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, username);
-            pstmt.setString(2, password);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return new User(rs.getInt("user_id"), rs.getString("name"), rs.getString("password"));
+                user = new User(rs.getInt("user_id"), rs.getString("name"), rs.getString("password"));
             }
         } catch (SQLException e) {
             e.printStackTrace();
+            return event.finish(null);
+        }
+        
+        if (user == null) {
+            PasswordHasher.verify(password, DUMMY_HASH);
+            return event.finish(null);
+        }
+        event.setUserId(user.getUserId());
+        if (!PasswordHasher.verify(password, user.getPassword())) {
+            return event.finish(null);
+        }
+        if (PasswordHasher.needsRehash(user.getPassword())) {
+            upgradePassword(user, password);
         }
-        return null;
+        return event.finish(user);
     }
     
-    public static boolean registerUser(String username, String password) {
-        // Check if username already exists
-        if (isUsernameExists(username)) {
-            return false;
+    private static void upgradePassword(User user, String password) {
+        String hash = PasswordHasher.hash(password);
+        String sql = "UPDATE Users SET password = ? WHERE user_id = ?";
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, hash);
+            pstmt.setInt(2, user.getUserId());
+            if (pstmt.executeUpdate() > 0) {
+                user.setPassword(hash);
+            }
+        } catch (SQLException e) {
+            // Login tetap berhasil; upgrade dicoba lagi di login berikutnya
+            e.printStackTrace();
         }
-        
-        User user = new User(username, password);
-        return user.saveToDB();
     }
     
-    private static boolean isUsernameExists(String username) {
-        String sql = "SELECT COUNT(*) FROM Users WHERE name = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+    /**
+     * Satu INSERT; username yang sudah dipakai dikenali dari pelanggaran constraint UNIQUE,
+     * jadi tidak ada SELECT terpisah (dan tidak ada race antara cek dan insert).
+     */
+    public static RegistrationResult registerUser(String username, String password) {
+        ControllerCallEvent event = ControllerCallEvent.begin("UserController", "registerUser", ControllerCallEvent.UNKNOWN_USER);
+        String sql = "INSERT INTO Users (name, password) VALUES (?, ?)";
+        String hash = PasswordHasher.hash(password);
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, username);
+            pstmt.setString(2, hash);
+            return event.finish(pstmt.executeUpdate() > 0 ? RegistrationResult.CREATED : RegistrationResult.FAILED);
+        } catch (SQLException e) {
+            if (isDuplicateUsername(e)) {
+                return event.finish(RegistrationResult.USERNAME_TAKEN);
+            }
+            e.printStackTrace();
+            return event.finish(RegistrationResult.FAILED);
+        }
+    }
+    
+    /**
+     * Hanya pelanggaran UNIQUE (satu-satunya di Users adalah name) yang berarti username
+     * terpakai; NOT NULL, CHECK, dan constraint lain adalah kegagalan biasa. sqlite-jdbc
+     * memberi extended code lewat getResultCode(), getErrorCode() hanya kode primer.
+     */
+    private static boolean isDuplicateUsername(SQLException e) {
+        int code = e instanceof SQLiteException sqlite ? sqlite.getResultCode().code : e.getErrorCode();
+        if (code == SQLITE_CONSTRAINT_UNIQUE) {
+            return true;
+        }
+        String message = e.getMessage();
+        return code == SQLITE_CONSTRAINT && message != null && message.contains("UNIQUE constraint failed: Users.name");
+    }
+    
+    public static List<String> getAllUsernames() {
+        ControllerCallEvent event = ControllerCallEvent.begin("UserController", "getAllUsernames", ControllerCallEvent.UNKNOWN_USER);
+        List<String> names = new ArrayList<>();
+        String sql = "SELECT name FROM Users";
+        try (PooledConnection conn = DatabaseManager.acquireRead();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             ResultSet rs = pstmt.executeQuery();
-            return rs.getInt(1) > 0;
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
         } catch (SQLException e) {
             e.printStackTrace();
-            return true; // Assume exists to be safe
         }
+        return event.finish(names);
     }
 }
\ No newline at end of file
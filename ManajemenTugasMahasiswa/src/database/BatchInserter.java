@@ -0,0 +1,69 @@
+package database;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Insert banyak row sekaligus: addBatch/executeBatch per chunk, semua chunk
+ * dalam satu transaksi di koneksi writer.
+ *
+ * Generated key dihitung dari last_insert_rowid() setiap chunk. Ini aman karena
+ * writer dipegang eksklusif selama transaksi, jadi row satu chunk mendapat
+ * rowid berurutan (max rowid + 1) tanpa diselingi insert lain.
+ */
+public final class BatchInserter {
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement pstmt, T row) throws SQLException;
+    }
+
+    private BatchInserter() {
+    }
+
+    public static <T> int[] insertAll(String sql, List<T> rows, RowBinder<T> binder) throws SQLException {
+        return insertAll(sql, rows, DatabaseManager.getBatchChunkSize(), binder);
+    }
+
+    // Mengembalikan generated key sesuai urutan rows; rollback seluruh list jika ada yang gagal
+    public static <T> int[] insertAll(String sql, List<T> rows, int chunkSize, RowBinder<T> binder) throws SQLException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        int[] keys = new int[rows.size()];
+        if (rows.isEmpty()) {
+            return keys;
+        }
+
+        DatabaseManager.inTransaction(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                 Statement rowid = conn.createStatement()) {
+                for (int start = 0; start < rows.size(); start += chunkSize) {
+                    int end = Math.min(start + chunkSize, rows.size());
+                    for (int i = start; i < end; i++) {
+                        binder.bind(pstmt, rows.get(i));
+                        pstmt.addBatch();
+                    }
+                    int[] counts = pstmt.executeBatch();
+                    for (int count : counts) {
+                        if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+                            throw new SQLException("Batch insert affected " + count + " rows, expected 1");
+                        }
+                    }
+
+                    try (ResultSet rs = rowid.executeQuery("SELECT last_insert_rowid()")) {
+                        int lastId = rs.getInt(1);
+                        for (int i = end - 1, id = lastId; i >= start; i--, id--) {
+                            keys[i] = id;
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        return keys;
+    }
+}
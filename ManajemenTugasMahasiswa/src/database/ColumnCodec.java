@@ -0,0 +1,50 @@
+package database;
+
+import model.enums.Status;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Encoding kolom deadline dan status di tabel task.
+ * deadline: INTEGER jumlah hari sejak 1970-01-01 (LocalDate.toEpochDay).
+ * status: INTEGER Status.getCode().
+ * Sisi SQL (konversi data lama di migration) dibangun dari definisi yang sama.
+ */
+public final class ColumnCodec {
+    // julianday('1970-01-01'); julianday(tanggal) - nilai ini = epoch day
+    private static final String UNIX_EPOCH_JULIAN_DAY = "2440587.5";
+
+    private ColumnCodec() {
+    }
+
+    public static long encodeDeadline(LocalDate deadline) {
+        return deadline.toEpochDay();
+    }
+
+    public static LocalDate decodeDeadline(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public static int encodeStatus(Status status) {
+        return status.getCode();
+    }
+
+    public static Status decodeStatus(int code) {
+        return Status.fromCode(code);
+    }
+
+    // Ekspresi SQL: teks tanggal ISO lama -> epoch day; tanggal yang tidak valid menjadi hari ini
+    static String legacyDeadlineSql(String column) {
+        return "COALESCE(CAST(julianday(" + column + ") - " + UNIX_EPOCH_JULIAN_DAY + " AS INTEGER), "
+            + "CAST(julianday('now', 'localtime') - " + UNIX_EPOCH_JULIAN_DAY + " AS INTEGER))";
+    }
+
+    // Ekspresi SQL: teks status lama -> kode, dengan alias yang sama seperti Status.fromString
+    static String legacyStatusSql(String column) {
+        StringBuilder sql = new StringBuilder("CASE lower(trim(").append(column).append("))");
+        for (Map.Entry<String, Status> entry : Status.legacyNames().entrySet()) {
+            sql.append(" WHEN '").append(entry.getKey()).append("' THEN ").append(entry.getValue().getCode());
+        }
+        return sql.append(" ELSE ").append(Status.BELUM_MULAI.getCode()).append(" END").toString();
+    }
+}
@@ -0,0 +1,315 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool koneksi SQLite: beberapa koneksi baca (query_only) dan satu koneksi tulis.
+ * SQLite hanya mengizinkan satu writer, jadi koneksi tulis dijaga dengan lock
+ * yang reentrant supaya operasi tulis bertingkat di thread yang sama tidak deadlock.
+ */
+public class ConnectionPool {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final String url;
+    private final int maxReaders;
+    private final long leaseTimeoutMillis;
+    private final PragmaProfile pragmas;
+    private final int statementCacheSize;
+    private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+    // null jika instrumentasi query dimatikan (query.stats=false)
+    private final QueryStats queryStats;
+
+    private final BlockingQueue<Connection> idleReaders;
+    private final AtomicInteger openReaders = new AtomicInteger();
+    private final AtomicInteger activeReaders = new AtomicInteger();
+
+    private final ReentrantLock writerLock = new ReentrantLock(true);
+    private Connection writer;
+
+    // Metrics
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong replacedConnections = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(DatabaseConfig config) {
+        this.url = config.getUrl();
+        this.maxReaders = config.getReaderPoolSize();
+        this.leaseTimeoutMillis = config.getLeaseTimeoutMillis();
+        this.pragmas = config.getPragmas();
+        this.statementCacheSize = config.getStatementCacheSize();
+        this.idleReaders = new ArrayBlockingQueue<>(maxReaders);
+        this.queryStats = config.isQueryStatsEnabled() ? new QueryStats(config.getSlowQueryMillis()) : null;
+    }
+
+    public PooledConnection acquireReader() throws SQLException {
+        // Thread yang sedang memegang writer membaca lewat writer juga,
+        // supaya perubahan dalam transaksi yang belum commit tetap terlihat
+        if (writerLock.isHeldByCurrentThread()) {
+            return acquireWriter();
+        }
+        ensureOpen();
+
+        long start = System.nanoTime();
+        Connection conn = idleReaders.poll();
+        if (conn == null) {
+            conn = openReaderIfAllowed();
+        }
+        if (conn == null) {
+            try {
+                conn = idleReaders.poll(leaseTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a read connection", e);
+            }
+            if (conn == null) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("No read connection available after " + leaseTimeoutMillis + " ms");
+            }
+        }
+
+        try {
+            conn = validateReader(conn);
+        } catch (SQLException e) {
+            openReaders.decrementAndGet();
+            throw e;
+        }
+        recordWait(System.nanoTime() - start);
+        activeReaders.incrementAndGet();
+        return new PooledConnection(this, conn, statementCache(conn), queryStats, false);
+    }
+
+    public PooledConnection acquireWriter() throws SQLException {
+        ensureOpen();
+
+        long start = System.nanoTime();
+        try {
+            if (!writerLock.tryLock(leaseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("Write connection still busy after " + leaseTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the write connection", e);
+        }
+
+        try {
+            if (writerLock.getHoldCount() == 1) {
+                writer = validateWriter(writer);
+            }
+        } catch (SQLException e) {
+            writerLock.unlock();
+            throw e;
+        }
+        recordWait(System.nanoTime() - start);
+        return new PooledConnection(this, writer, statementCache(writer), queryStats, true);
+    }
+
+    void release(PooledConnection lease) {
+        Connection conn = lease.getConnection();
+        if (lease.isWriter()) {
+            try {
+                // Hanya lease terluar yang boleh me-reset state transaksi
+                if (writerLock.getHoldCount() == 1 && !conn.getAutoCommit()) {
+                    conn.rollback();
+                    conn.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+                closeQuietly(conn);
+            } finally {
+                writerLock.unlock();
+            }
+            return;
+        }
+
+        activeReaders.decrementAndGet();
+        if (closed || !idleReaders.offer(conn)) {
+            openReaders.decrementAndGet();
+            closeQuietly(conn);
+        }
+    }
+
+    private StatementCache statementCache(Connection conn) {
+        if (statementCacheSize <= 0) {
+            return null;
+        }
+        return statementCaches.computeIfAbsent(conn, key -> new StatementCache(key, statementCacheSize, statementCacheStats));
+    }
+    
+    public StatementCacheMetrics getStatementCacheMetrics() {
+        int cached = 0;
+        for (StatementCache cache : statementCaches.values()) {
+            cached += cache.size();
+        }
+        return statementCacheStats.snapshot(cached);
+    }
+
+    public QueryMetrics getQueryMetrics() {
+        if (queryStats == null) {
+            return new QueryMetrics(0, 0, 0, 0, List.of(), List.of());
+        }
+        return queryStats.snapshot();
+    }
+    
+    private Connection openReaderIfAllowed() throws SQLException {
+        while (true) {
+            int current = openReaders.get();
+            if (current >= maxReaders) {
+                return null;
+            }
+            if (openReaders.compareAndSet(current, current + 1)) {
+                try {
+                    return openReader();
+                } catch (SQLException e) {
+                    openReaders.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Connection openReader() throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement stmt = conn.createStatement()) {
+            pragmas.apply(conn, false);
+            stmt.execute("PRAGMA query_only = ON");
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw e;
+        }
+        return conn;
+    }
+    
+    private Connection openWriter() throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try {
+            pragmas.apply(conn, true);
+            enableForeignKeys(conn);
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw e;
+        }
+        return conn;
+    }
+
+    // Foreign key selalu aktif di writer, tidak bisa dimatikan lewat database.properties
+    private void enableForeignKeys(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+            try (ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("SQLite build does not support foreign key enforcement");
+                }
+            }
+        }
+    }
+
+    private Connection validateReader(Connection conn) throws SQLException {
+        if (isHealthy(conn)) {
+            return conn;
+        }
+        replacedConnections.incrementAndGet();
+        closeQuietly(conn);
+        return openReader();
+    }
+
+    private Connection validateWriter(Connection conn) throws SQLException {
+        if (conn != null && isHealthy(conn)) {
+            return conn;
+        }
+        if (conn != null) {
+            replacedConnections.incrementAndGet();
+            closeQuietly(conn);
+        }
+        return openWriter();
+    }
+
+    private boolean isHealthy(Connection conn) {
+        try {
+            return !conn.isClosed() && conn.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        leaseCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+    }
+
+    public PoolMetrics getMetrics() {
+        long leases = leaseCount.get();
+        double avgWaitMillis = leases == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / leases;
+        return new PoolMetrics(
+            activeReaders.get(),
+            idleReaders.size(),
+            maxReaders,
+            writerLock.isLocked(),
+            writerLock.getQueueLength(),
+            leases,
+            timeoutCount.get(),
+            replacedConnections.get(),
+            avgWaitMillis,
+            maxWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    public void close() {
+        closed = true;
+        Connection conn;
+        while ((conn = idleReaders.poll()) != null) {
+            openReaders.decrementAndGet();
+            closeQuietly(conn);
+        }
+
+        writerLock.lock();
+        try {
+            if (writer != null) {
+                closeQuietly(writer);
+                writer = null;
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        StatementCache cache = statementCaches.remove(conn);
+        if (cache != null) {
+            cache.close();
+        }
+        try {
+            if (!conn.isClosed()) {
+                conn.close();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+// Konfigurasi database: URL, ukuran pool dan profil pragma
+public class DatabaseConfig {
+    private static final String RESOURCE_NAME = "database.properties";
+
+    private final String url;
+    private final int readerPoolSize;
+    private final long leaseTimeoutMillis;
+    private final int statementCacheSize;
+    private final int batchChunkSize;
+    private final boolean queryStatsEnabled;
+    private final long slowQueryMillis;
+    private final PragmaProfile pragmas;
+
+    public DatabaseConfig(String url, int readerPoolSize, long leaseTimeoutMillis, int statementCacheSize, int batchChunkSize,
+                          boolean queryStatsEnabled, long slowQueryMillis, PragmaProfile pragmas) {
+        this.url = url;
+        this.readerPoolSize = readerPoolSize;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.batchChunkSize = batchChunkSize;
+        this.queryStatsEnabled = queryStatsEnabled;
+        this.slowQueryMillis = slowQueryMillis;
+        this.pragmas = pragmas;
+    }
+
+    // Urutan: default di classpath, lalu database.properties di working directory, lalu -Ddb.config
+    public static DatabaseConfig load() {
+        Properties props = new Properties();
+        try (InputStream in = DatabaseConfig.class.getResourceAsStream(RESOURCE_NAME)) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        loadFile(props, Paths.get(RESOURCE_NAME));
+        String override = System.getProperty("db.config");
+        if (override != null) {
+            loadFile(props, Paths.get(override));
+        }
+        return fromProperties(props);
+    }
+
+    private static void loadFile(Properties props, Path path) {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            props.load(in);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static DatabaseConfig fromProperties(Properties props) {
+        return new DatabaseConfig(
+            props.getProperty("db.url", "jdbc:sqlite:task_management.db").trim(),
+            Integer.parseInt(props.getProperty("pool.readers", "4").trim()),
+            Long.parseLong(props.getProperty("pool.leaseTimeoutMillis", "5000").trim()),
+            Integer.parseInt(props.getProperty("statement.cacheSize", "64").trim()),
+            Integer.parseInt(props.getProperty("batch.chunkSize", "500").trim()),
+            Boolean.parseBoolean(props.getProperty("query.stats", "true").trim()),
+            Long.parseLong(props.getProperty("query.slowMillis", "100").trim()),
+            PragmaProfile.fromProperties(props)
+        );
+    }
+
+    public DatabaseConfig withUrl(String url) {
+        return new DatabaseConfig(url, readerPoolSize, leaseTimeoutMillis, statementCacheSize, batchChunkSize, queryStatsEnabled, slowQueryMillis, pragmas);
+    }
+
+    public DatabaseConfig withStatementCacheSize(int statementCacheSize) {
+        return new DatabaseConfig(url, readerPoolSize, leaseTimeoutMillis, statementCacheSize, batchChunkSize, queryStatsEnabled, slowQueryMillis, pragmas);
+    }
+
+    public DatabaseConfig withBatchChunkSize(int batchChunkSize) {
+        return new DatabaseConfig(url, readerPoolSize, leaseTimeoutMillis, statementCacheSize, batchChunkSize, queryStatsEnabled, slowQueryMillis, pragmas);
+    }
+
+    public DatabaseConfig withQueryStats(boolean queryStatsEnabled, long slowQueryMillis) {
+        return new DatabaseConfig(url, readerPoolSize, leaseTimeoutMillis, statementCacheSize, batchChunkSize, queryStatsEnabled, slowQueryMillis, pragmas);
+    }
+
+    public DatabaseConfig withPragmas(PragmaProfile pragmas) {
+        return new DatabaseConfig(url, readerPoolSize, leaseTimeoutMillis, statementCacheSize, batchChunkSize, queryStatsEnabled, slowQueryMillis, pragmas);
+    }
+
+    public String getUrl() { return url; }
+    public int getReaderPoolSize() { return readerPoolSize; }
+    public long getLeaseTimeoutMillis() { return leaseTimeoutMillis; }
+    public int getStatementCacheSize() { return statementCacheSize; }
+    public int getBatchChunkSize() { return batchChunkSize; }
+    public boolean isQueryStatsEnabled() { return queryStatsEnabled; }
+    public long getSlowQueryMillis() { return slowQueryMillis; }
+    public PragmaProfile getPragmas() { return pragmas; }
+}
@@ -1,86 +1,127 @@
 package database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
 
 public class DatabaseManager {
-    private static final String DB_URL = "jdbc:sqlite:task_management.db";
-    private static Connection connection;
+    private static volatile ConnectionPool pool;
+    private static volatile int batchChunkSize = 500;
+    private static CompletableFuture<Void> backgroundInit;
     
-    public static Connection getConnection() {
-        try {
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(DB_URL);
-                createTables();
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public static synchronized void initialize() {
+        if (pool == null) {
+            initialize(DatabaseConfig.load());
         }
-        return connection;
     }
     
-    private static void createTables() {
-        try (Statement stmt = connection.createStatement()) {
-            // Create Users table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS Users (
-                    user_id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    name TEXT NOT NULL UNIQUE,
-                    password TEXT NOT NULL
-                )
-            """);
-            
-            // Create Courses table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS Courses (
-                    course_id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    course_name TEXT NOT NULL,
-                    user_id INTEGER NOT NULL,
-                    FOREIGN KEY (user_id) REFERENCES Users(user_id)
-                )
-            """);
-            
-            // Create AcademicTasks table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS AcademicTasks (
-                    task_id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    title TEXT NOT NULL,
-                    description TEXT,
-                    deadline DATE,
-                    status TEXT,
-                    course_id INTEGER NOT NULL,
-                    FOREIGN KEY (course_id) REFERENCES Courses(course_id)
-                )
-            """);
-            
-            // Create PersonalTasks table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS PersonalTasks (
-                    personal_task_id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    title TEXT NOT NULL,
-                    description TEXT,
-                    category TEXT,
-                    deadline DATE,
-                    status TEXT,
-                    user_id INTEGER NOT NULL,
-                    FOREIGN KEY (user_id) REFERENCES Users(user_id)
-                )
-            """);
-            
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public static synchronized void initialize(DatabaseConfig config) {
+        if (pool != null) {
+            pool.close();
+        }
+        // Pool baru dipublikasikan setelah migration selesai, jadi tidak ada query ke skema lama
+        ConnectionPool created = new ConnectionPool(config);
+        migrateSchema(created);
+        batchChunkSize = config.getBatchChunkSize();
+        pool = created;
+    }
+    
+    /**
+     * Membuka database dan menjalankan migration di thread terpisah supaya UI bisa tampil
+     * lebih dulu. Pemanggil acquireRead/acquireWrite sebelum selesai menunggu di lock initialize.
+     */
+    public static synchronized CompletableFuture<Void> initializeInBackground() {
+        if (backgroundInit == null) {
+            backgroundInit = CompletableFuture.runAsync(DatabaseManager::initialize,
+                runnable -> new Thread(runnable, "database-init").start());
+        }
+        return backgroundInit;
+    }
+    
+    public static boolean isInitialized() {
+        return pool != null;
+    }
+    
+    private static ConnectionPool pool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            initialize();
+            current = pool;
         }
+        return current;
     }
     
-    public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+    // Koneksi untuk SELECT; beberapa reader bisa berjalan bersamaan
+    public static PooledConnection acquireRead() throws SQLException {
+        return pool().acquireReader();
+    }
+    
+    // Koneksi tunggal untuk INSERT/UPDATE/DELETE
+    public static PooledConnection acquireWrite() throws SQLException {
+        return pool().acquireWriter();
+    }
+    
+    @FunctionalInterface
+    public interface TransactionWork<T> {
+        T run(PooledConnection conn) throws SQLException;
+    }
+    
+    /**
+     * Menjalankan beberapa statement tulis sebagai satu transaksi di koneksi writer:
+     * commit jika work selesai, rollback jika ada exception. Jika thread ini sudah
+     * berada di dalam transaksi, work ikut transaksi luar (commit oleh pemilik transaksi).
+     */
+    public static <T> T inTransaction(TransactionWork<T> work) throws SQLException {
+        try (PooledConnection conn = acquireWrite()) {
+            Connection connection = conn.getConnection();
+            if (!connection.getAutoCommit()) {
+                return work.run(conn);
+            }
+            
+            connection.setAutoCommit(false);
+            try {
+                T result = work.run(conn);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
             }
+        }
+    }
+    
+    // Jumlah row per executeBatch untuk BatchInserter
+    public static int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+    
+    public static PoolMetrics getPoolMetrics() {
+        return pool().getMetrics();
+    }
+    
+    public static StatementCacheMetrics getStatementCacheMetrics() {
+        return pool().getStatementCacheMetrics();
+    }
+    
+    public static QueryMetrics getQueryMetrics() {
+        return pool().getQueryMetrics();
+    }
+    
+    // Menjalankan migration yang belum diterapkan, sekali saat pool dibuat
+    private static void migrateSchema(ConnectionPool target) {
+        try (PooledConnection conn = target.acquireWriter()) {
+            new SchemaMigrator(Migrations.ALL).migrate(conn);
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+    
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+    }
+}
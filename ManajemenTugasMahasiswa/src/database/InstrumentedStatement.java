@@ -0,0 +1,190 @@
+package database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Proxy Statement/PreparedStatement yang mengukur setiap execute ke QueryStats.
+ * Untuk SELECT, SQLite baru mengerjakan sebagian besar query saat ResultSet.next(),
+ * jadi waktu dan jumlah row dihitung sampai result set habis, ditutup, atau
+ * statement dipakai ulang/ditutup, lalu dicatat sekali.
+ */
+final class InstrumentedStatement implements InvocationHandler {
+    private final Statement statement;
+    private final String preparedSql;
+    private final Connection connection;
+    private final QueryStats stats;
+    private Statement self;
+    private PendingQuery pending;
+
+    private InstrumentedStatement(Statement statement, String preparedSql, Connection connection, QueryStats stats) {
+        this.statement = statement;
+        this.preparedSql = preparedSql;
+        this.connection = connection;
+        this.stats = stats;
+    }
+
+    static PreparedStatement wrap(PreparedStatement statement, String sql, Connection connection, QueryStats stats) {
+        return (PreparedStatement) proxy(PreparedStatement.class, new InstrumentedStatement(statement, sql, connection, stats));
+    }
+
+    static Statement wrap(Statement statement, Connection connection, QueryStats stats) {
+        // executeBatch tanpa SQL tunggal dicatat di bawah satu template
+        return proxy(Statement.class, new InstrumentedStatement(statement, "(statement batch)", connection, stats));
+    }
+
+    private static Statement proxy(Class<? extends Statement> type, InstrumentedStatement handler) {
+        handler.self = (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+        return handler.self;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "close":
+                finishPending();
+                return invokeTarget(statement, method, args);
+            case "unwrap":
+                return statement.unwrap((Class<?>) args[0]);
+            case "isWrapperFor":
+                return statement.isWrapperFor((Class<?>) args[0]);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Instrumented[" + statement + "]";
+            default:
+                break;
+        }
+        if (!name.startsWith("execute")) {
+            return invokeTarget(statement, method, args);
+        }
+
+        // Execute baru menutup result set sebelumnya di JDBC
+        finishPending();
+        String sql = args != null && args.length > 0 && args[0] instanceof String
+            ? QueryStats.normalize((String) args[0])
+            : preparedSql;
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invokeTarget(statement, method, args);
+        } catch (SQLException e) {
+            stats.recordError(sql);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (result instanceof ResultSet) {
+            pending = new PendingQuery(sql, elapsed, (ResultSet) result);
+            return pending.proxy;
+        }
+        stats.record(sql, elapsed, updatedRows(result), connection);
+        return result;
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max(0, (Integer) result);
+        }
+        if (result instanceof Long) {
+            return Math.max(0, (Long) result);
+        }
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+        }
+        // execute() mengembalikan boolean; jumlah row tidak diketahui
+        return rows;
+    }
+
+    private void finishPending() {
+        if (pending != null) {
+            pending.finish();
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class PendingQuery implements InvocationHandler {
+        final String sql;
+        final ResultSet resultSet;
+        final ResultSet proxy;
+        long nanos;
+        long rows;
+        boolean finished;
+
+        PendingQuery(String sql, long nanos, ResultSet resultSet) {
+            this.sql = sql;
+            this.nanos = nanos;
+            this.resultSet = resultSet;
+            this.proxy = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                this
+            );
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    if (finished) {
+                        return resultSet.next();
+                    }
+                    long start = System.nanoTime();
+                    boolean hasRow = resultSet.next();
+                    nanos += System.nanoTime() - start;
+                    if (hasRow) {
+                        rows++;
+                    } else {
+                        finish();
+                    }
+                    return hasRow;
+                case "close":
+                    finish();
+                    resultSet.close();
+                    return null;
+                case "getStatement":
+                    return self;
+                case "unwrap":
+                    return resultSet.unwrap((Class<?>) args[0]);
+                case "isWrapperFor":
+                    return resultSet.isWrapperFor((Class<?>) args[0]);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return invokeTarget(resultSet, method, args);
+            }
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                if (pending == this) {
+                    pending = null;
+                }
+                stats.record(sql, nanos, rows, connection);
+            }
+        }
+    }
+}
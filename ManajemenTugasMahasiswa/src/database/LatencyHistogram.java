@@ -0,0 +1,82 @@
+package database;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram latensi log-linear ala HdrHistogram, dalam mikrodetik. Setiap pangkat dua
+ * dibagi 16 bucket, jadi persentil punya error relatif paling banyak ~6% dengan memori
+ * tetap, berapa pun jumlah sampelnya. Aman dipakai dari banyak thread tanpa lock.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Nilai di atas ~19 jam digabung ke bucket terakhir
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    double getTotalMillis() {
+        return totalMicros.sum() / 1_000.0;
+    }
+
+    double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    // Batas atas bucket yang memuat persentil p (0-100), tidak lebih dari nilai maksimum
+    double getPercentileMillis(double p) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros.get()) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT && micros >= (2L << MAX_EXPONENT)) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,11 @@
+package database;
+
+import java.util.List;
+
+// Satu langkah perubahan schema; version harus unik dan naik berurutan
+public record Migration(int version, String description, List<String> statements) {
+
+    public Migration(int version, String description, String... statements) {
+        this(version, description, List.of(statements));
+    }
+}
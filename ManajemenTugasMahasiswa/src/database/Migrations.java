@@ -0,0 +1,186 @@
+package database;
+
+import java.util.List;
+
+// Daftar migration schema, dijalankan berurutan oleh SchemaMigrator
+public final class Migrations {
+
+    private Migrations() {
+    }
+
+    public static final List<Migration> ALL = List.of(
+        // Schema awal, sama dengan createTables() lama supaya database yang sudah ada tetap cocok
+        new Migration(1, "Initial schema",
+            """
+                CREATE TABLE IF NOT EXISTS Users (
+                    user_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    name TEXT NOT NULL UNIQUE,
+                    password TEXT NOT NULL
+                )
+            """,
+            """
+                CREATE TABLE IF NOT EXISTS Courses (
+                    course_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    course_name TEXT NOT NULL,
+                    user_id INTEGER NOT NULL,
+                    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+                )
+            """,
+            """
+                CREATE TABLE IF NOT EXISTS AcademicTasks (
+                    task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    deadline DATE,
+                    status TEXT,
+                    course_id INTEGER NOT NULL,
+                    FOREIGN KEY (course_id) REFERENCES Courses(course_id)
+                )
+            """,
+            """
+                CREATE TABLE IF NOT EXISTS PersonalTasks (
+                    personal_task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    category TEXT,
+                    deadline DATE,
+                    status TEXT,
+                    user_id INTEGER NOT NULL,
+                    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+                )
+            """
+        ),
+
+        // Index untuk query per user yang diurutkan berdasarkan deadline
+        new Migration(2, "Composite indexes for per-user task and course lookups",
+            "CREATE INDEX IF NOT EXISTS idx_personal_tasks_user_deadline ON PersonalTasks (user_id, deadline)",
+            "CREATE INDEX IF NOT EXISTS idx_academic_tasks_course_deadline ON AcademicTasks (course_id, deadline)",
+            "CREATE INDEX IF NOT EXISTS idx_courses_user_name ON Courses (user_id, course_name)"
+        ),
+
+        // deadline TEXT -> INTEGER epoch day dan status TEXT -> kode integer (lihat ColumnCodec).
+        // SQLite tidak bisa mengubah tipe kolom, jadi tabel dibangun ulang lalu index dibuat kembali
+        new Migration(3, "Integer epoch-day deadlines and status codes",
+            """
+                CREATE TABLE AcademicTasks_new (
+                    task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    deadline INTEGER NOT NULL,
+                    status INTEGER NOT NULL DEFAULT 0,
+                    course_id INTEGER NOT NULL,
+                    FOREIGN KEY (course_id) REFERENCES Courses(course_id)
+                )
+            """,
+            // Counter AUTOINCREMENT ikut dipindah supaya id task yang sudah dihapus tidak dipakai ulang
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'AcademicTasks_new', seq FROM sqlite_sequence WHERE name = 'AcademicTasks'",
+            "INSERT INTO AcademicTasks_new (task_id, title, description, deadline, status, course_id) "
+                + "SELECT task_id, title, description, " + ColumnCodec.legacyDeadlineSql("deadline") + ", "
+                + ColumnCodec.legacyStatusSql("status") + ", course_id FROM AcademicTasks",
+            "DROP TABLE AcademicTasks",
+            "ALTER TABLE AcademicTasks_new RENAME TO AcademicTasks",
+            "CREATE INDEX idx_academic_tasks_course_deadline ON AcademicTasks (course_id, deadline)",
+            """
+                CREATE TABLE PersonalTasks_new (
+                    personal_task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    category TEXT,
+                    deadline INTEGER NOT NULL,
+                    status INTEGER NOT NULL DEFAULT 0,
+                    user_id INTEGER NOT NULL,
+                    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+                )
+            """,
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'PersonalTasks_new', seq FROM sqlite_sequence WHERE name = 'PersonalTasks'",
+            "INSERT INTO PersonalTasks_new (personal_task_id, title, description, category, deadline, status, user_id) "
+                + "SELECT personal_task_id, title, description, category, " + ColumnCodec.legacyDeadlineSql("deadline") + ", "
+                + ColumnCodec.legacyStatusSql("status") + ", user_id FROM PersonalTasks",
+            "DROP TABLE PersonalTasks",
+            "ALTER TABLE PersonalTasks_new RENAME TO PersonalTasks",
+            "CREATE INDEX idx_personal_tasks_user_deadline ON PersonalTasks (user_id, deadline)"
+        ),
+
+        // Menghapus course ikut menghapus academic task-nya; foreign key sendiri ditegakkan ConnectionPool
+        new Migration(4, "Cascade academic task deletes from Courses",
+            """
+                CREATE TABLE AcademicTasks_new (
+                    task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    deadline INTEGER NOT NULL,
+                    status INTEGER NOT NULL DEFAULT 0,
+                    course_id INTEGER NOT NULL,
+                    FOREIGN KEY (course_id) REFERENCES Courses(course_id) ON DELETE CASCADE
+                )
+            """,
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'AcademicTasks_new', seq FROM sqlite_sequence WHERE name = 'AcademicTasks'",
+            "INSERT INTO AcademicTasks_new (task_id, title, description, deadline, status, course_id) "
+                + "SELECT task_id, title, description, deadline, status, course_id FROM AcademicTasks",
+            "DROP TABLE AcademicTasks",
+            "ALTER TABLE AcademicTasks_new RENAME TO AcademicTasks",
+            "CREATE INDEX idx_academic_tasks_course_deadline ON AcademicTasks (course_id, deadline)"
+        ),
+
+        // Index full-text judul dan deskripsi, dijaga trigger. Contentless: teks tetap di tabel task.
+        // rowid = task_id * 2 (academic) atau personal_task_id * 2 + 1 (personal); owner berisi token
+        // "u<user_id>" supaya filter user ikut dijalankan di index FTS, bukan setelah match
+        new Migration(5, "FTS5 search index over task titles and descriptions",
+            """
+                CREATE VIRTUAL TABLE TaskSearch USING fts5(
+                    title, description, owner,
+                    content = '', contentless_delete = 1,
+                    prefix = '2 3', tokenize = 'unicode61 remove_diacritics 2'
+                )
+            """,
+            """
+                INSERT INTO TaskSearch (rowid, title, description, owner)
+                SELECT at.task_id * 2, at.title, at.description, 'u' || c.user_id
+                FROM AcademicTasks at JOIN Courses c ON c.course_id = at.course_id
+            """,
+            """
+                INSERT INTO TaskSearch (rowid, title, description, owner)
+                SELECT personal_task_id * 2 + 1, title, description, 'u' || user_id FROM PersonalTasks
+            """,
+            """
+                CREATE TRIGGER AcademicTasks_search_insert AFTER INSERT ON AcademicTasks BEGIN
+                    INSERT INTO TaskSearch (rowid, title, description, owner)
+                    VALUES (new.task_id * 2, new.title, new.description,
+                            'u' || (SELECT user_id FROM Courses WHERE course_id = new.course_id));
+                END
+            """,
+            """
+                CREATE TRIGGER AcademicTasks_search_update AFTER UPDATE OF title, description, course_id ON AcademicTasks BEGIN
+                    DELETE FROM TaskSearch WHERE rowid = old.task_id * 2;
+                    INSERT INTO TaskSearch (rowid, title, description, owner)
+                    VALUES (new.task_id * 2, new.title, new.description,
+                            'u' || (SELECT user_id FROM Courses WHERE course_id = new.course_id));
+                END
+            """,
+            // Juga berjalan untuk row yang terhapus lewat ON DELETE CASCADE dari Courses
+            """
+                CREATE TRIGGER AcademicTasks_search_delete AFTER DELETE ON AcademicTasks BEGIN
+                    DELETE FROM TaskSearch WHERE rowid = old.task_id * 2;
+                END
+            """,
+            """
+                CREATE TRIGGER PersonalTasks_search_insert AFTER INSERT ON PersonalTasks BEGIN
+                    INSERT INTO TaskSearch (rowid, title, description, owner)
+                    VALUES (new.personal_task_id * 2 + 1, new.title, new.description, 'u' || new.user_id);
+                END
+            """,
+            """
+                CREATE TRIGGER PersonalTasks_search_update AFTER UPDATE OF title, description, user_id ON PersonalTasks BEGIN
+                    DELETE FROM TaskSearch WHERE rowid = old.personal_task_id * 2 + 1;
+                    INSERT INTO TaskSearch (rowid, title, description, owner)
+                    VALUES (new.personal_task_id * 2 + 1, new.title, new.description, 'u' || new.user_id);
+                END
+            """,
+            """
+                CREATE TRIGGER PersonalTasks_search_delete AFTER DELETE ON PersonalTasks BEGIN
+                    DELETE FROM TaskSearch WHERE rowid = old.personal_task_id * 2 + 1;
+                END
+            """
+        )
+    );
+}
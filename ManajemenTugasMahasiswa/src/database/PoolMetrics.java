@@ -0,0 +1,24 @@
+package database;
+
+// Snapshot metrik pool koneksi pada satu titik waktu
+public record PoolMetrics(
+    int activeReaders,
+    int idleReaders,
+    int maxReaders,
+    boolean writerBusy,
+    int writerQueueLength,
+    long leaseCount,
+    long timeoutCount,
+    long replacedConnections,
+    double avgWaitMillis,
+    double maxWaitMillis
+) {
+    @Override
+    public String toString() {
+        return String.format(
+            "readers active=%d idle=%d max=%d, writer busy=%b queued=%d, leases=%d timeouts=%d replaced=%d, wait avg=%.3fms max=%.3fms",
+            activeReaders, idleReaders, maxReaders, writerBusy, writerQueueLength,
+            leaseCount, timeoutCount, replacedConnections, avgWaitMillis, maxWaitMillis
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Lease atas satu koneksi dari ConnectionPool; close() mengembalikan koneksi ke pool
+public class PooledConnection implements AutoCloseable {
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final QueryStats queryStats;
+    private final boolean writer;
+    private boolean released;
+
+    PooledConnection(ConnectionPool pool, Connection connection, StatementCache statementCache, QueryStats queryStats, boolean writer) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statementCache = statementCache;
+        this.queryStats = queryStats;
+        this.writer = writer;
+    }
+
+    // Statement diambil dari cache per koneksi; tetap tutup dengan try-with-resources
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        PreparedStatement statement = statementCache != null
+            ? statementCache.prepare(sql)
+            : connection.prepareStatement(sql);
+        if (queryStats != null) {
+            return InstrumentedStatement.wrap(statement, sql, connection, queryStats);
+        }
+        return statement;
+    }
+
+    public Statement createStatement() throws SQLException {
+        Statement statement = connection.createStatement();
+        if (queryStats != null) {
+            return InstrumentedStatement.wrap(statement, connection, queryStats);
+        }
+        return statement;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public boolean isWriter() {
+        return writer;
+    }
+
+    @Override
+    public void close() {
+        if (!released) {
+            released = true;
+            pool.release(this);
+        }
+    }
+}
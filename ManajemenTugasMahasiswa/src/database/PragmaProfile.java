@@ -0,0 +1,89 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+// Kumpulan PRAGMA SQLite yang diterapkan pada setiap koneksi baru
+public class PragmaProfile {
+    private static final Logger LOGGER = Logger.getLogger(PragmaProfile.class.getName());
+    private static final String PREFIX = "pragma.";
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z_]+");
+    private static final Pattern VALUE_PATTERN = Pattern.compile("-?[A-Za-z0-9_]+");
+
+    // Pragma yang berlaku untuk file database (bukan per koneksi), cukup di-set oleh writer
+    private static final Set<String> DATABASE_PRAGMAS = Set.of("journal_mode", "auto_vacuum", "page_size");
+
+    private final Map<String, String> pragmas;
+    private volatile boolean logged;
+
+    public PragmaProfile(Map<String, String> pragmas) {
+        for (Map.Entry<String, String> entry : pragmas.entrySet()) {
+            if (!NAME_PATTERN.matcher(entry.getKey()).matches() || !VALUE_PATTERN.matcher(entry.getValue()).matches()) {
+                throw new IllegalArgumentException("Invalid pragma: " + entry.getKey() + "=" + entry.getValue());
+            }
+        }
+        this.pragmas = Collections.unmodifiableMap(new LinkedHashMap<>(pragmas));
+    }
+
+    public static PragmaProfile fromProperties(Properties props) {
+        Map<String, String> pragmas = new LinkedHashMap<>();
+        // journal_mode diterapkan lebih dulu karena mempengaruhi pragma lain
+        String journalMode = props.getProperty(PREFIX + "journal_mode");
+        if (journalMode != null) {
+            pragmas.put("journal_mode", journalMode.trim());
+        }
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(PREFIX)) {
+                pragmas.putIfAbsent(key.substring(PREFIX.length()).trim(), props.getProperty(key).trim());
+            }
+        }
+        return new PragmaProfile(pragmas);
+    }
+
+    public static PragmaProfile empty() {
+        return new PragmaProfile(Map.of());
+    }
+
+    public void apply(Connection conn, boolean writer) throws SQLException {
+        Map<String, String> applied = new LinkedHashMap<>();
+        try (Statement stmt = conn.createStatement()) {
+            for (Map.Entry<String, String> entry : pragmas.entrySet()) {
+                String name = entry.getKey();
+                if (!writer && DATABASE_PRAGMAS.contains(name)) {
+                    continue;
+                }
+                stmt.execute("PRAGMA " + name + " = " + entry.getValue());
+                // Baca ulang nilainya, SQLite diam-diam mengabaikan nilai yang tidak didukung
+                try (ResultSet rs = stmt.executeQuery("PRAGMA " + name)) {
+                    applied.put(name, rs.next() ? rs.getString(1) : "?");
+                }
+            }
+        }
+
+        if (writer && !logged) {
+            logged = true;
+            LOGGER.info("SQLite pragmas applied: " + applied);
+        } else if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("SQLite pragmas applied (" + (writer ? "writer" : "reader") + "): " + applied);
+        }
+    }
+
+    public Map<String, String> getPragmas() {
+        return pragmas;
+    }
+
+    @Override
+    public String toString() {
+        return pragmas.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package database;
+
+import java.util.List;
+
+// Snapshot statistik query; perTemplate diurutkan dari total waktu terbesar, slowQueries dari yang terbaru
+public record QueryMetrics(long calls, long errors, long slowCount, double slowThresholdMillis,
+                           List<TemplateEntry> perTemplate, List<SlowQuery> slowQueries) {
+
+    public record TemplateEntry(String sql, long calls, long errors, long rows, double totalMillis,
+                                double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        public double meanMillis() {
+            long timed = calls - errors;
+            return timed == 0 ? 0 : totalMillis / timed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("calls=%d errors=%d rows=%d total=%.1fms mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms: %s",
+                calls, errors, rows, totalMillis, meanMillis(), p50Millis, p95Millis, p99Millis, maxMillis, sql);
+        }
+    }
+
+    // plan berisi output EXPLAIN QUERY PLAN, satu baris per node dengan indentasi
+    public record SlowQuery(long timestampMillis, String sql, double millis, long rows, String plan) {
+    }
+
+    @Override
+    public String toString() {
+        return String.format("queries=%d errors=%d templates=%d slow=%d (threshold %.0f ms)",
+            calls, errors, perTemplate.size(), slowCount, slowThresholdMillis);
+    }
+}
@@ -0,0 +1,156 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Statistik per template SQL untuk semua koneksi di pool: jumlah panggilan, error, row
+ * yang dikembalikan (atau diubah) dan histogram latensi. Template adalah teks SQL yang
+ * di-prepare; SQL dari Statement biasa dinormalisasi dulu (literal diganti "?") supaya
+ * jumlah template tetap terbatas.
+ *
+ * Query yang lebih lama dari slowThresholdMillis di-log bersama EXPLAIN QUERY PLAN-nya.
+ * Plan dihitung sekali per template di koneksi yang menjalankan query, lalu disimpan.
+ */
+public class QueryStats {
+    private static final Logger LOGGER = Logger.getLogger(QueryStats.class.getName());
+    private static final int MAX_TEMPLATES = 512;
+    private static final int MAX_SLOW_QUERIES = 50;
+    private static final String OTHER_TEMPLATE = "(other)";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowThresholdNanos;
+    private final Map<String, TemplateStats> perTemplate = new ConcurrentHashMap<>();
+    private final Map<String, String> plans = new ConcurrentHashMap<>();
+    private final ArrayDeque<QueryMetrics.SlowQuery> slowQueries = new ArrayDeque<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+
+    public QueryStats(long slowThresholdMillis) {
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+    }
+
+    // SQL dari Statement.execute(String): angka dan string literal menjadi "?"
+    static String normalize(String sql) {
+        String template = STRING_LITERAL.matcher(sql).replaceAll("?");
+        return NUMBER_LITERAL.matcher(template).replaceAll("?");
+    }
+
+    void record(String sql, long nanos, long rows, Connection connection) {
+        calls.increment();
+        TemplateStats stats = template(sql);
+        stats.histogram.record(nanos);
+        stats.rows.add(rows);
+        if (nanos >= slowThresholdNanos) {
+            recordSlow(sql, nanos, rows, connection);
+        }
+    }
+
+    void recordError(String sql) {
+        calls.increment();
+        errors.increment();
+        template(sql).errors.increment();
+    }
+
+    private TemplateStats template(String sql) {
+        TemplateStats stats = perTemplate.get(sql);
+        if (stats == null) {
+            String key = perTemplate.size() < MAX_TEMPLATES ? sql : OTHER_TEMPLATE;
+            stats = perTemplate.computeIfAbsent(key, ignored -> new TemplateStats());
+        }
+        return stats;
+    }
+
+    private void recordSlow(String sql, long nanos, long rows, Connection connection) {
+        slowCount.increment();
+        String plan = plans.computeIfAbsent(sql, key -> explain(connection, key));
+        QueryMetrics.SlowQuery slow = new QueryMetrics.SlowQuery(System.currentTimeMillis(), sql, nanos / 1e6, rows, plan);
+        synchronized (slowQueries) {
+            slowQueries.addFirst(slow);
+            if (slowQueries.size() > MAX_SLOW_QUERIES) {
+                slowQueries.removeLast();
+            }
+        }
+        LOGGER.warning(String.format("Slow query %.1f ms, %d rows: %s%n%s", slow.millis(), rows, oneLine(sql), plan));
+    }
+
+    // Parameter di-bind NULL; plan SQLite hampir tidak bergantung pada nilai parameter
+    private static String explain(Connection connection, String sql) {
+        String keyword = sql.stripLeading().split("\\s", 2)[0].toUpperCase(Locale.ROOT);
+        if (!List.of("SELECT", "WITH", "INSERT", "UPDATE", "DELETE", "REPLACE").contains(keyword)) {
+            return "(no plan for " + keyword + ")";
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                explain.setObject(i, null);
+            }
+            Map<Integer, Integer> depth = new HashMap<>();
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    int level = depth.getOrDefault(rs.getInt("parent"), -1) + 1;
+                    depth.put(rs.getInt("id"), level);
+                    plan.append("  ".repeat(level)).append(rs.getString("detail")).append('\n');
+                }
+            }
+            return plan.length() == 0 ? "(no plan)" : plan.toString().stripTrailing();
+        } catch (SQLException e) {
+            return "(plan unavailable: " + e.getMessage() + ")";
+        }
+    }
+
+    private static String oneLine(String sql) {
+        return WHITESPACE.matcher(sql).replaceAll(" ").trim();
+    }
+
+    public QueryMetrics snapshot() {
+        List<QueryMetrics.TemplateEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, TemplateStats> entry : perTemplate.entrySet()) {
+            TemplateStats stats = entry.getValue();
+            LatencyHistogram histogram = stats.histogram;
+            entries.add(new QueryMetrics.TemplateEntry(
+                oneLine(entry.getKey()),
+                histogram.getCount() + stats.errors.sum(),
+                stats.errors.sum(),
+                stats.rows.sum(),
+                histogram.getTotalMillis(),
+                histogram.getPercentileMillis(50),
+                histogram.getPercentileMillis(95),
+                histogram.getPercentileMillis(99),
+                histogram.getMaxMillis()
+            ));
+        }
+        entries.sort(Comparator.comparingDouble(QueryMetrics.TemplateEntry::totalMillis).reversed());
+
+        List<QueryMetrics.SlowQuery> slow = new ArrayList<>();
+        synchronized (slowQueries) {
+            for (QueryMetrics.SlowQuery query : slowQueries) {
+                slow.add(new QueryMetrics.SlowQuery(query.timestampMillis(), oneLine(query.sql()), query.millis(), query.rows(), query.plan()));
+            }
+        }
+        return new QueryMetrics(calls.sum(), errors.sum(), slowCount.sum(), slowThresholdNanos / 1e6, entries, slow);
+    }
+
+    private static class TemplateStats {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,127 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Logger;
+
+// Menjalankan migration yang belum tercatat di tabel schema_version
+public class SchemaMigrator {
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(List<Migration> migrations) {
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() <= migrations.get(i - 1).version()) {
+                throw new IllegalArgumentException("Migrations must be ordered by ascending version");
+            }
+        }
+        this.migrations = migrations;
+    }
+
+    // Mengembalikan jumlah migration yang dijalankan
+    public int migrate(PooledConnection lease) throws SQLException {
+        long start = System.nanoTime();
+        Connection conn = lease.getConnection();
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INTEGER PRIMARY KEY,
+                    description TEXT NOT NULL,
+                    applied_at TEXT NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    duration_ms INTEGER NOT NULL
+                )
+            """);
+        }
+
+        int current = currentVersion(conn);
+        int applied = 0;
+        // Prosedur rebuild tabel SQLite: foreign key dimatikan selama migration (tidak bisa di dalam
+        // transaksi), lalu foreign_key_check setelahnya
+        setForeignKeys(conn, false);
+        try {
+            for (Migration migration : migrations) {
+                if (migration.version() <= current) {
+                    continue;
+                }
+                apply(conn, migration);
+                applied++;
+            }
+            if (applied > 0) {
+                checkForeignKeys(conn);
+            }
+        } finally {
+            setForeignKeys(conn, true);
+        }
+
+        long totalMillis = (System.nanoTime() - start) / 1_000_000;
+        if (applied > 0) {
+            LOGGER.info("Applied " + applied + " migration(s), schema now at version "
+                + currentVersion(conn) + " in " + totalMillis + " ms");
+        } else {
+            LOGGER.info("Schema up to date at version " + current + ", check took " + totalMillis + " ms");
+        }
+        return applied;
+    }
+
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        long start = System.nanoTime();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : migration.statements()) {
+                    stmt.execute(sql);
+                }
+            }
+
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, description, duration_ms) VALUES (?, ?, ?)")) {
+                pstmt.setInt(1, migration.version());
+                pstmt.setString(2, migration.description());
+                pstmt.setLong(3, durationMillis);
+                pstmt.executeUpdate();
+            }
+            conn.commit();
+            LOGGER.info("Migration V" + migration.version() + " (" + migration.description() + ") took " + durationMillis + " ms");
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Migration V" + migration.version() + " failed: " + e.getMessage(), e);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void setForeignKeys(Connection conn, boolean enabled) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = " + (enabled ? "ON" : "OFF"));
+        }
+    }
+
+    // Data lama bisa berisi row yatim dari sebelum foreign key ditegakkan; dicatat, tidak dihapus
+    private void checkForeignKeys(Connection conn) throws SQLException {
+        int violations = 0;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_key_check")) {
+            while (rs.next()) {
+                violations++;
+            }
+        }
+        if (violations > 0) {
+            LOGGER.warning(violations + " row(s) violate foreign key constraints after migration");
+        }
+    }
+
+    private int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
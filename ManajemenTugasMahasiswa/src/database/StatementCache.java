@@ -0,0 +1,167 @@
+package database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Cache LRU PreparedStatement untuk satu koneksi, dengan key teks SQL.
+ * Statement yang dikembalikan adalah proxy: close() hanya mengembalikan statement
+ * ke cache (parameter di-reset, result set ditutup), bukan menutupnya di SQLite.
+ */
+class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final StatementCacheStats stats;
+    private final LinkedHashMap<String, Entry> entries;
+
+    StatementCache(Connection connection, int maxSize, StatementCacheStats stats) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.stats = stats;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    synchronized PreparedStatement prepare(String sql) throws SQLException {
+        Entry entry = entries.get(sql);
+        if (entry != null && !entry.inUse) {
+            entry.inUse = true;
+            stats.recordHit(sql);
+            return entry.proxy;
+        }
+
+        stats.recordMiss(sql);
+        PreparedStatement statement = connection.prepareStatement(sql);
+        if (entry != null) {
+            // SQL yang sama sedang dipakai (nested) pada koneksi ini, pakai statement biasa
+            return statement;
+        }
+
+        entry = new Entry(sql, statement);
+        entry.inUse = true;
+        entries.put(sql, entry);
+        evictIfNeeded();
+        return entry.proxy;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            eldest.evicted = true;
+            stats.recordEviction();
+            if (!eldest.inUse) {
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    private synchronized void release(Entry entry) throws SQLException {
+        try {
+            if (entry.openResultSet != null) {
+                entry.openResultSet.close();
+                entry.openResultSet = null;
+            }
+            entry.statement.clearParameters();
+            entry.statement.clearBatch();
+        } catch (SQLException e) {
+            // Statement dalam kondisi tidak jelas, jangan dipakai lagi
+            entries.remove(entry.sql, entry);
+            entry.evicted = true;
+            throw e;
+        } finally {
+            entry.inUse = false;
+            if (entry.evicted) {
+                closeQuietly(entry.statement);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void close() {
+        List<Entry> all = new ArrayList<>(entries.values());
+        entries.clear();
+        for (Entry entry : all) {
+            entry.evicted = true;
+            if (!entry.inUse) {
+                closeQuietly(entry.statement);
+            }
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private final class Entry implements InvocationHandler {
+        final String sql;
+        final PreparedStatement statement;
+        final PreparedStatement proxy;
+        ResultSet openResultSet;
+        boolean inUse;
+        boolean evicted;
+
+        Entry(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                this
+            );
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) {
+                        release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "unwrap":
+                    return statement.unwrap((Class<?>) args[0]);
+                case "isWrapperFor":
+                    return statement.isWrapperFor((Class<?>) args[0]);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + sql + "]";
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                openResultSet = (ResultSet) result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package database;
+
+import java.util.List;
+
+// Snapshot counter statement cache; perSql diurutkan dari hit terbanyak
+public record StatementCacheMetrics(long hits, long misses, long evictions, int cachedStatements, List<SqlEntry> perSql) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public record SqlEntry(String sql, long hits, long misses) {
+    }
+
+    @Override
+    public String toString() {
+        return String.format("statements cached=%d, hits=%d misses=%d evictions=%d, hit ratio=%.1f%%",
+            cachedStatements, hits, misses, evictions, hitRatio() * 100);
+    }
+}
@@ -0,0 +1,45 @@
+package database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counter hit/miss statement cache, digabung untuk semua koneksi di pool
+public class StatementCacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Map<String, SqlCounter> perSql = new ConcurrentHashMap<>();
+
+    void recordHit(String sql) {
+        hits.increment();
+        perSql.computeIfAbsent(sql, key -> new SqlCounter()).hits.increment();
+    }
+
+    void recordMiss(String sql) {
+        misses.increment();
+        perSql.computeIfAbsent(sql, key -> new SqlCounter()).misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public StatementCacheMetrics snapshot(int cachedStatements) {
+        List<StatementCacheMetrics.SqlEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, SqlCounter> entry : perSql.entrySet()) {
+            entries.add(new StatementCacheMetrics.SqlEntry(
+                entry.getKey(), entry.getValue().hits.sum(), entry.getValue().misses.sum()));
+        }
+        entries.sort(Comparator.comparingLong(StatementCacheMetrics.SqlEntry::hits).reversed());
+        return new StatementCacheMetrics(hits.sum(), misses.sum(), evictions.sum(), cachedStatements, entries);
+    }
+
+    private static class SqlCounter {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+    }
+}
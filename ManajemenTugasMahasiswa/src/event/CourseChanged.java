@@ -0,0 +1,10 @@
+package event;
+
+import model.Course;
+
+// Course ditambah (course terisi) atau dihapus (course null); academic task-nya ikut terhapus lewat cascade
+public record CourseChanged(int courseId, Course course) implements DomainEvent {
+    public boolean deleted() {
+        return course == null;
+    }
+}
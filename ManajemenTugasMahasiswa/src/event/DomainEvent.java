@@ -0,0 +1,8 @@
+package event;
+
+/**
+ * Perubahan data yang dipublikasikan controller setelah write berhasil.
+ * Panel menerapkan event ini sebagai delta, bukan memuat ulang seluruh isinya.
+ */
+public sealed interface DomainEvent permits TaskCreated, TaskUpdated, TaskDeleted, CourseChanged {
+}
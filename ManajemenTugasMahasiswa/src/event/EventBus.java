@@ -0,0 +1,99 @@
+package event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Bus event domain. publish() boleh dipanggil dari thread mana saja; event dikumpulkan
+ * dan dikirim ke subscriber di EDT paling banyak sekali per frame (FRAME_MILLIS), jadi
+ * rentetan write (misalnya bulk insert) hanya menghasilkan satu update UI.
+ */
+public final class EventBus {
+    private static final int FRAME_MILLIS = 16;
+
+    private static final List<Subscription> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    private static final Object LOCK = new Object();
+    private static List<DomainEvent> pending = new ArrayList<>();
+    private static boolean flushScheduled;
+    private static Timer flushTimer;
+
+    private static final AtomicLong publishedEvents = new AtomicLong();
+    private static final AtomicLong deliveredBatches = new AtomicLong();
+
+    private EventBus() {
+    }
+
+    // listener dipanggil di EDT dengan semua event yang terkumpul dalam satu frame, sesuai urutan publish
+    public static Subscription subscribe(Consumer<List<DomainEvent>> listener) {
+        Subscription subscription = new Subscription(listener);
+        SUBSCRIBERS.add(subscription);
+        return subscription;
+    }
+
+    public static void publish(DomainEvent event) {
+        publishedEvents.incrementAndGet();
+        synchronized (LOCK) {
+            pending.add(event);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        SwingUtilities.invokeLater(EventBus::startFlushTimer);
+    }
+
+    private static void startFlushTimer() {
+        if (flushTimer == null) {
+            flushTimer = new Timer(FRAME_MILLIS, e -> flush());
+            flushTimer.setRepeats(false);
+        }
+        flushTimer.start();
+    }
+
+    private static void flush() {
+        List<DomainEvent> batch;
+        synchronized (LOCK) {
+            batch = Collections.unmodifiableList(pending);
+            pending = new ArrayList<>();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        deliveredBatches.incrementAndGet();
+        for (Subscription subscription : SUBSCRIBERS) {
+            try {
+                subscription.listener.accept(batch);
+            } catch (RuntimeException e) {
+                // Satu panel yang gagal tidak boleh menghentikan panel lain
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public static long getPublishedEvents() {
+        return publishedEvents.get();
+    }
+
+    public static long getDeliveredBatches() {
+        return deliveredBatches.get();
+    }
+
+    public static final class Subscription {
+        private final Consumer<List<DomainEvent>> listener;
+
+        private Subscription(Consumer<List<DomainEvent>> listener) {
+            this.listener = listener;
+        }
+
+        public void cancel() {
+            SUBSCRIBERS.remove(this);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package event;
+
+import model.abstractes.TaskBase;
+
+// Task baru yang sudah tersimpan, taskId sudah terisi
+public record TaskCreated(TaskBase task) implements DomainEvent {
+}
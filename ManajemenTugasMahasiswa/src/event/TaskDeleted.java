@@ -0,0 +1,5 @@
+package event;
+
+// Id academic dan personal task berasal dari tabel berbeda, jadi jenisnya ikut dibawa
+public record TaskDeleted(boolean academic, int taskId) implements DomainEvent {
+}
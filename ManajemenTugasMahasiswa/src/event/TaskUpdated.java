@@ -0,0 +1,7 @@
+package event;
+
+import model.abstractes.TaskBase;
+
+// Versi task setelah update (isi lengkap atau status saja)
+public record TaskUpdated(TaskBase task) implements DomainEvent {
+}
@@ -2,13 +2,16 @@ package model;
 
 import model.abstractes.TaskBase;
 import model.enums.Status;
+import database.ColumnCodec;
 import database.DatabaseManager;
+import database.PooledConnection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalDate;
 
 public class AcademicTask extends TaskBase {
     private int courseId;
+    private String courseName; // Diisi dari JOIN Courses, null jika belum diketahui
     
     public AcademicTask(String title, String description, LocalDate deadline, int courseId) {
         super(title, description, deadline);
@@ -20,12 +23,18 @@ public class AcademicTask extends TaskBase {
         this.courseId = courseId;
     }
     
+    public AcademicTask(int taskId, String title, String description, LocalDate deadline, Status status, int courseId, String courseName) {
+        this(taskId, title, description, deadline, status, courseId);
+        this.courseName = courseName;
+    }
+    
     @Override
     public boolean updateStatus(Status newStatus) {
         this.status = newStatus;
         String sql = "UPDATE AcademicTasks SET status = ? WHERE task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, newStatus.name());
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, ColumnCodec.encodeStatus(newStatus));
             pstmt.setInt(2, taskId);
             return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
@@ -37,11 +46,12 @@ public class AcademicTask extends TaskBase {
     @Override
     public boolean saveToDB() {
         String sql = "INSERT INTO AcademicTasks (title, description, deadline, status, course_id) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, title);
             pstmt.setString(2, description);
-            pstmt.setString(3, deadline.toString());
-            pstmt.setString(4, status.name());
+            pstmt.setLong(3, ColumnCodec.encodeDeadline(deadline));
+            pstmt.setInt(4, ColumnCodec.encodeStatus(status));
             pstmt.setInt(5, courseId);
             return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
@@ -53,4 +63,7 @@ public class AcademicTask extends TaskBase {
     // Getters and Setters
     public int getCourseId() { return courseId; }
     public void setCourseId(int courseId) { this.courseId = courseId; }
+    
+    public String getCourseName() { return courseName; }
+    public void setCourseName(String courseName) { this.courseName = courseName; }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package model;
 
 import model.interfaces.Savable;
 import database.DatabaseManager;
+import database.PooledConnection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class Course implements Savable {
@@ -23,11 +25,17 @@ public class Course implements Savable {
     
     @Override
     public boolean saveToDB() {
-        String sql = "INSERT INTO Courses (course_name, user_id) VALUES (?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        String sql = "INSERT INTO Courses (course_name, user_id) VALUES (?, ?) RETURNING course_id";
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, courseName);
             pstmt.setInt(2, userId);
-            return pstmt.executeUpdate() > 0;
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return false;
+            }
+            courseId = rs.getInt(1);
+            return true;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
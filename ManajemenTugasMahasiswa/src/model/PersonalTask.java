@@ -2,7 +2,9 @@ package model;
 
 import model.abstractes.TaskBase;
 import model.enums.Status;
+import database.ColumnCodec;
 import database.DatabaseManager;
+import database.PooledConnection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -27,8 +29,9 @@ public class PersonalTask extends TaskBase {
     public boolean updateStatus(Status newStatus) {
         this.status = newStatus;
         String sql = "UPDATE PersonalTasks SET status = ? WHERE personal_task_id = ?";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, newStatus.name());
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, ColumnCodec.encodeStatus(newStatus));
             pstmt.setInt(2, taskId);
             return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
@@ -40,12 +43,13 @@ public class PersonalTask extends TaskBase {
     @Override
     public boolean saveToDB() {
         String sql = "INSERT INTO PersonalTasks (title, description, category, deadline, status, user_id) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, title);
             pstmt.setString(2, description);
             pstmt.setString(3, category);
-            pstmt.setString(4, deadline.toString());
-            pstmt.setString(5, status.name());
+            pstmt.setLong(4, ColumnCodec.encodeDeadline(deadline));
+            pstmt.setInt(5, ColumnCodec.encodeStatus(status));
             pstmt.setInt(6, userId);
             return pstmt.executeUpdate() > 0;
         } catch (SQLException e) {
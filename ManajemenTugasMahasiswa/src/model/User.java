@@ -2,6 +2,7 @@ package model;
 
 import model.interfaces.Savable;
 import database.DatabaseManager;
+import database.PooledConnection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -24,7 +25,8 @@ public class User implements Savable {
     @Override
     public boolean saveToDB() {
         String sql = "INSERT INTO Users (name, password) VALUES (?, ?)";
-        try (PreparedStatement pstmt = DatabaseManager.getConnection().prepareStatement(sql)) {
+        try (PooledConnection conn = DatabaseManager.acquireWrite();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, name);
             pstmt.setString(2, password);
             return pstmt.executeUpdate() > 0;
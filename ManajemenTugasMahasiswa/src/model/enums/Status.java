@@ -1,13 +1,42 @@
 package model.enums;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum Status {
-    BELUM_MULAI("Belum Mulai"),
-    SEDANG_DIKERJAKAN("Sedang Dikerjakan"), 
-    SELESAI("Selesai");
+    BELUM_MULAI(0, "Belum Mulai"),
+    SEDANG_DIKERJAKAN(1, "Sedang Dikerjakan"), 
+    SELESAI(2, "Selesai");
+    
+    // Index = kode di database; dipakai fromCode supaya decode per row cukup satu array lookup
+    private static final Status[] BY_CODE;
+    // Semua teks status yang pernah tersimpan di database (lowercase), untuk data lama dan migration
+    private static final Map<String, Status> LEGACY_NAMES;
+    
+    static {
+        Status[] values = values();
+        BY_CODE = new Status[values.length];
+        Map<String, Status> legacyNames = new LinkedHashMap<>();
+        for (Status status : values) {
+            BY_CODE[status.code] = status;
+            legacyNames.put(status.displayName.toLowerCase(Locale.ROOT), status);
+            legacyNames.put(status.name().toLowerCase(Locale.ROOT), status);
+        }
+        legacyNames.put("not_started", BELUM_MULAI);
+        legacyNames.put("in_progress", SEDANG_DIKERJAKAN);
+        legacyNames.put("progress", SEDANG_DIKERJAKAN);
+        legacyNames.put("completed", SELESAI);
+        legacyNames.put("done", SELESAI);
+        LEGACY_NAMES = Collections.unmodifiableMap(legacyNames);
+    }
     
+    private final int code;
     private final String displayName;
     
-    Status(String displayName) {
+    Status(int code, String displayName) {
+        this.code = code;
         this.displayName = displayName;
     }
     
@@ -15,50 +44,34 @@ public enum Status {
         return displayName;
     }
     
+    // Kode integer yang disimpan di kolom status
+    public int getCode() {
+        return code;
+    }
+    
     @Override
     public String toString() {
         return displayName;
     }
     
-    // Method untuk konversi dari string database ke enum
+    // Kebalikan dari getCode(); kode yang tidak dikenal menjadi BELUM_MULAI
+    public static Status fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            return BELUM_MULAI;
+        }
+        return BY_CODE[code];
+    }
+    
+    // Konversi dari teks status lama (display name, Status.name() atau alias); default BELUM_MULAI
     public static Status fromString(String statusString) {
         if (statusString == null) {
-            return BELUM_MULAI; // default value
-        }
-        
-        // Normalisasi string (trim dan case insensitive)
-        String normalized = statusString.trim();
-        
-        for (Status status : Status.values()) {
-            if (status.displayName.equalsIgnoreCase(normalized) || 
-                status.name().equalsIgnoreCase(normalized)) {
-                return status;
-            }
-        }
-        
-        // Mapping untuk nilai lama yang mungkin ada di database
-        switch (normalized.toLowerCase()) {
-            case "belum mulai":
-            case "belum_mulai":
-            case "not_started":
-                return BELUM_MULAI;
-            case "sedang dikerjakan":
-            case "sedang_dikerjakan":
-            case "in_progress":
-            case "progress":
-                return SEDANG_DIKERJAKAN;
-            case "selesai":
-            case "completed":
-            case "done":
-                return SELESAI;
-            default:
-                System.err.println("Unknown status: " + statusString + ", defaulting to BELUM_MULAI");
-                return BELUM_MULAI;
+            return BELUM_MULAI;
         }
+        Status status = LEGACY_NAMES.get(statusString.trim().toLowerCase(Locale.ROOT));
+        return status != null ? status : BELUM_MULAI;
     }
     
-    // Method untuk menyimpan ke database (gunakan display name)
-    public String toDatabaseString() {
-        return this.displayName;
+    public static Map<String, Status> legacyNames() {
+        return LEGACY_NAMES;
     }
-}
\ No newline at end of file
+}
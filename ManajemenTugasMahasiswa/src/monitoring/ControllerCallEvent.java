@@ -0,0 +1,74 @@
+package monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk satu panggilan method controller: dari awal method sampai hasilnya
+ * dikembalikan. Jika event tidak diaktifkan di recording, begin/finish hampir tanpa biaya.
+ *
+ * Pemakaian di controller:
+ * <pre>
+ * ControllerCallEvent event = ControllerCallEvent.begin("TaskController", "getAllTasksByUserId", userId);
+ * ...
+ * return event.finish(tasks);
+ * </pre>
+ */
+@Name("tugas.ControllerCall")
+@Label("Controller Call")
+@Category({"Manajemen Tugas", "Controller"})
+@Description("Panggilan method TaskController, CourseController atau UserController")
+@StackTrace(false)
+public class ControllerCallEvent extends Event {
+    // User belum diketahui (login/registrasi, bulk insert campuran); getter by-id mengisinya dari row
+    public static final int UNKNOWN_USER = -1;
+
+    @Label("Controller")
+    String controller;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    int userId;
+
+    @Label("Rows")
+    @Description("Jumlah row yang dikembalikan atau diubah")
+    int rows;
+
+    public static ControllerCallEvent begin(String controller, String operation, int userId) {
+        ControllerCallEvent event = new ControllerCallEvent();
+        event.controller = controller;
+        event.operation = operation;
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    // Untuk method yang baru tahu user-nya setelah query (misalnya login)
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    // Commit event dengan jumlah row dari hasil, lalu kembalikan hasil itu apa adanya
+    public <T> T finish(T result) {
+        end();
+        if (shouldCommit()) {
+            rows = RowCount.of(result);
+            commit();
+        }
+        return result;
+    }
+
+    public void finishWithRows(int rows) {
+        end();
+        if (shouldCommit()) {
+            this.rows = rows;
+            commit();
+        }
+    }
+}
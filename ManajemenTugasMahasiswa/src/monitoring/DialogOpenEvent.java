@@ -0,0 +1,45 @@
+package monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Event JFR dari konstruksi dialog sampai window-nya tampil (windowOpened)
+@Name("tugas.DialogOpen")
+@Label("Dialog Open")
+@Category({"Manajemen Tugas", "View"})
+@Description("Membuka dialog, termasuk membangun komponen dan query yang dijalankan saat itu")
+@StackTrace(false)
+public class DialogOpenEvent extends Event {
+    @Label("Dialog")
+    String dialog;
+
+    @Label("User Id")
+    int userId;
+
+    @Label("Task Id")
+    int taskId;
+
+    @Label("Task Kind")
+    String taskKind;
+
+    public static DialogOpenEvent begin(String dialog, int userId, int taskId, String taskKind) {
+        DialogOpenEvent event = new DialogOpenEvent();
+        event.dialog = dialog;
+        event.userId = userId;
+        event.taskId = taskId;
+        event.taskKind = taskKind;
+        event.begin();
+        return event;
+    }
+
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package monitoring;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Mendeteksi EDT yang sibuk lebih lama dari threshold (-Dedt.stallMillis, default 100;
+ * 0 = nonaktif). EventQueue diganti dengan subclass yang mencatat kapan EDT mulai sibuk;
+ * thread watchdog memeriksanya secara berkala dan mengambil stack EDT selama stall.
+ *
+ * Waktu tunggu di dalam loop modal (JOptionPane, dialog) tidak dihitung: saat EDT menunggu
+ * event berikutnya, EDT dianggap idle. Setiap stall dikelompokkan berdasarkan frame
+ * view teratas di stack-nya, jadi snapshot menunjukkan handler mana yang paling sering
+ * memblokir UI.
+ */
+public final class EdtWatchdog {
+    private static final Logger LOGGER = Logger.getLogger(EdtWatchdog.class.getName());
+    private static final long THRESHOLD_MILLIS = Long.getLong("edt.stallMillis", 100);
+    private static final int MAX_LOGGED_FRAMES = 15;
+    private static final String VIEW_PACKAGE = "view.";
+    private static final String[] PLATFORM_PREFIXES = {"java.", "javax.", "sun.", "jdk.", "com.sun.", "org.sqlite."};
+
+    // Ditulis di EDT, dibaca thread watchdog
+    private static volatile long busySinceNanos;
+    private static volatile long segment;
+    private static volatile Thread edt;
+    private static volatile String currentEvent;
+
+    // Stack dari thread watchdog untuk segment yang sedang stall
+    private static long capturedSegment = -1;
+    private static StackTraceElement[] capturedStack;
+
+    private static final Map<String, Offender> OFFENDERS = new HashMap<>();
+    private static long stalls;
+    private static long totalStallNanos;
+    private static long maxStallNanos;
+    private static boolean installed;
+
+    private EdtWatchdog() {
+    }
+
+    public static synchronized void install() {
+        if (installed || THRESHOLD_MILLIS <= 0) {
+            return;
+        }
+        installed = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new WatchedQueue());
+
+        Thread watchdog = new Thread(EdtWatchdog::watch, "edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    // Stack diambil sekali per segment, segera setelah melewati threshold
+    private static void watch() {
+        long thresholdNanos = THRESHOLD_MILLIS * 1_000_000;
+        long pollMillis = Math.max(5, THRESHOLD_MILLIS / 2);
+        while (true) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long since = busySinceNanos;
+            long current = segment;
+            Thread thread = edt;
+            if (since == 0 || thread == null || System.nanoTime() - since < thresholdNanos) {
+                continue;
+            }
+            synchronized (EdtWatchdog.class) {
+                if (capturedSegment == current) {
+                    continue;
+                }
+            }
+            StackTraceElement[] stack = thread.getStackTrace();
+            synchronized (EdtWatchdog.class) {
+                // Segment bisa saja sudah selesai saat stack diambil
+                if (segment == current && busySinceNanos == since) {
+                    capturedSegment = current;
+                    capturedStack = stack;
+                }
+            }
+        }
+    }
+
+    private static void beginSegment() {
+        segment++;
+        busySinceNanos = System.nanoTime();
+    }
+
+    private static void endSegment() {
+        long since = busySinceNanos;
+        busySinceNanos = 0;
+        if (since == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - since;
+        if (nanos >= THRESHOLD_MILLIS * 1_000_000) {
+            recordStall(nanos);
+        }
+    }
+
+    private static synchronized void recordStall(long nanos) {
+        StackTraceElement[] stack = capturedSegment == segment ? capturedStack : null;
+        capturedStack = null;
+        String frame = stack != null ? offendingFrame(stack) : "(not sampled) " + currentEvent;
+
+        stalls++;
+        totalStallNanos += nanos;
+        maxStallNanos = Math.max(maxStallNanos, nanos);
+        Offender offender = OFFENDERS.computeIfAbsent(frame, key -> new Offender());
+        offender.stalls++;
+        offender.totalNanos += nanos;
+        offender.maxNanos = Math.max(offender.maxNanos, nanos);
+        if (stack != null) {
+            offender.stack = formatStack(stack);
+        }
+
+        LOGGER.warning(String.format("EDT stall %.1f ms while dispatching %s at %s%s",
+            nanos / 1e6, currentEvent, frame, stack != null ? "\n" + offender.stack : ""));
+    }
+
+    /**
+     * Frame view teratas, yaitu kode UI yang memanggil pekerjaan berat (misalnya
+     * TaskManagementPanel.handleUpdateStatus yang menunggu query). Jika tidak ada,
+     * frame aplikasi teratas, lalu frame teratas (misalnya layout Swing).
+     */
+    private static String offendingFrame(StackTraceElement[] stack) {
+        StackTraceElement appFrame = null;
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith(VIEW_PACKAGE)) {
+                return describe(element);
+            }
+            if (appFrame == null && !isPlatformFrame(className)) {
+                appFrame = element;
+            }
+        }
+        if (appFrame != null) {
+            return describe(appFrame);
+        }
+        return stack.length > 0 ? describe(stack[0]) : "(empty stack)";
+    }
+
+    // Tanpa prefix classloader/modul supaya frame yang sama selalu jadi satu key
+    private static String describe(StackTraceElement element) {
+        return element.getClassName() + "." + element.getMethodName()
+            + "(" + element.getFileName() + ":" + element.getLineNumber() + ")";
+    }
+
+    private static boolean isPlatformFrame(String className) {
+        for (String prefix : PLATFORM_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        StringBuilder text = new StringBuilder();
+        int frames = Math.min(stack.length, MAX_LOGGED_FRAMES);
+        for (int i = 0; i < frames; i++) {
+            text.append("\tat ").append(stack[i]).append('\n');
+        }
+        if (stack.length > frames) {
+            text.append("\t... ").append(stack.length - frames).append(" more\n");
+        }
+        return text.toString().stripTrailing();
+    }
+
+    public static synchronized Snapshot getSnapshot() {
+        List<OffenderStats> offenders = new ArrayList<>();
+        for (Map.Entry<String, Offender> entry : OFFENDERS.entrySet()) {
+            Offender offender = entry.getValue();
+            offenders.add(new OffenderStats(entry.getKey(), offender.stalls,
+                offender.totalNanos / 1e6, offender.maxNanos / 1e6, offender.stack));
+        }
+        offenders.sort(Comparator.comparingDouble(OffenderStats::totalMillis).reversed());
+        return new Snapshot(THRESHOLD_MILLIS, stalls, totalStallNanos / 1e6, maxStallNanos / 1e6, offenders);
+    }
+
+    public static void logStats() {
+        Snapshot snapshot = getSnapshot();
+        StringBuilder text = new StringBuilder("EDT: ").append(snapshot);
+        snapshot.offenders().stream().limit(5).forEach(offender -> text.append("\n  ").append(offender));
+        LOGGER.info(text.toString());
+    }
+
+    public static synchronized void reset() {
+        OFFENDERS.clear();
+        stalls = 0;
+        totalStallNanos = 0;
+        maxStallNanos = 0;
+    }
+
+    private static class Offender {
+        long stalls;
+        long totalNanos;
+        long maxNanos;
+        String stack;
+    }
+
+    // offenders diurutkan dari total waktu stall terbesar
+    public record Snapshot(long thresholdMillis, long stalls, double totalMillis, double maxMillis, List<OffenderStats> offenders) {
+        @Override
+        public String toString() {
+            return String.format("stalls=%d (threshold %d ms) total=%.1f ms max=%.1f ms", stalls, thresholdMillis, totalMillis, maxMillis);
+        }
+    }
+
+    // stack berisi stack EDT terakhir yang diambil untuk frame ini (null jika belum pernah)
+    public record OffenderStats(String frame, long stalls, double totalMillis, double maxMillis, String stack) {
+        @Override
+        public String toString() {
+            return String.format("%d stalls, total %.1f ms, max %.1f ms: %s", stalls, totalMillis, maxMillis, frame);
+        }
+    }
+
+    /**
+     * Segment sibuk dimulai saat event di-dispatch dan berakhir saat dispatch selesai atau
+     * saat EDT menunggu event di loop modal. Setelah dispatch bertingkat selesai, sisa
+     * pekerjaan event luar dihitung sebagai segment baru.
+     */
+    private static final class WatchedQueue extends EventQueue {
+        private int depth;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            edt = Thread.currentThread();
+            endSegment();
+            String outerEvent = currentEvent;
+            currentEvent = event.getClass().getSimpleName();
+            depth++;
+            beginSegment();
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                endSegment();
+                depth--;
+                currentEvent = outerEvent;
+                if (depth > 0) {
+                    beginSegment();
+                }
+            }
+        }
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            if (!EventQueue.isDispatchThread() || depth == 0) {
+                return super.getNextEvent();
+            }
+            // Loop modal: menunggu input user bukan stall
+            endSegment();
+            try {
+                return super.getNextEvent();
+            } finally {
+                beginSegment();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk BasePanel.refreshData(): dari pemanggilan sampai semua load background
+ * yang dimulainya selesai dan hasilnya ditampilkan di EDT (atau dibatalkan).
+ */
+@Name("tugas.PanelRefresh")
+@Label("Panel Refresh")
+@Category({"Manajemen Tugas", "View"})
+@Description("Muat ulang data panel, termasuk query di background dan render hasilnya")
+@StackTrace(false)
+public class PanelRefreshEvent extends Event {
+    @Label("Panel")
+    String panel;
+
+    @Label("User Id")
+    int userId;
+
+    @Label("Loads")
+    @Description("Jumlah load background yang selesai")
+    int loads;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Cancelled")
+    boolean cancelled;
+
+    public static PanelRefreshEvent begin(String panel, int userId) {
+        PanelRefreshEvent event = new PanelRefreshEvent();
+        event.panel = panel;
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    public void loadFinished(Object result) {
+        loads++;
+        rows += RowCount.of(result);
+    }
+
+    public void finish(boolean cancelled) {
+        end();
+        if (shouldCommit()) {
+            this.cancelled = cancelled;
+            commit();
+        }
+    }
+}
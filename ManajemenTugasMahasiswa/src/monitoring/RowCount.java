@@ -0,0 +1,38 @@
+package monitoring;
+
+import controller.CourseDeletion;
+import controller.RegistrationResult;
+import controller.TaskPage;
+import java.util.Collection;
+
+// Jumlah row yang diwakili hasil controller, untuk field rows pada event JFR
+final class RowCount {
+    private RowCount() {
+    }
+
+    static int of(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof int[] ids) {
+            return ids.length;
+        }
+        if (result instanceof Boolean success) {
+            return success ? 1 : 0;
+        }
+        if (result instanceof TaskPage page) {
+            return page.tasks().size();
+        }
+        if (result instanceof CourseDeletion deletion) {
+            return deletion.courses() + deletion.academicTasks();
+        }
+        if (result instanceof RegistrationResult registration) {
+            return registration == RegistrationResult.CREATED ? 1 : 0;
+        }
+        // Satu objek (misalnya task by id, nama course)
+        return 1;
+    }
+}
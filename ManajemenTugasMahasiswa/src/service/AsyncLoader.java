@@ -0,0 +1,163 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Menjalankan query controller di thread background lalu mengirim hasilnya ke EDT.
+ * Setiap load punya key (misalnya "TaskManagementPanel/tasks"); load baru dengan key
+ * yang sama membatalkan load sebelumnya sehingga hasil lama tidak pernah ditampilkan.
+ */
+public final class AsyncLoader {
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "data-loader-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<String, Load> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final Map<String, EdtTiming> EDT_TIMINGS = new ConcurrentHashMap<>();
+
+    private AsyncLoader() {
+    }
+
+    public static <T> void load(String key, Callable<T> query, Consumer<T> onLoaded, Consumer<Throwable> onFailed) {
+        Load load = new Load();
+        Load previous = IN_FLIGHT.put(key, load);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        load.future = EXECUTOR.submit(() -> {
+            if (load.cancelled) {
+                return;
+            }
+            T result;
+            try {
+                result = query.call();
+            } catch (Throwable t) {
+                deliver(key, load, () -> onFailed.accept(t));
+                return;
+            }
+            deliver(key, load, () -> onLoaded.accept(result));
+        });
+    }
+
+    // Pekerjaan background tanpa hasil untuk EDT (misalnya prefetch cache); tidak bisa dibatalkan
+    public static void runInBackground(Runnable task) {
+        EXECUTOR.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    private static void deliver(String key, Load load, Runnable callback) {
+        if (load.cancelled) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            // Load sudah digantikan atau dibatalkan selama menunggu giliran di EDT
+            if (load.cancelled || !IN_FLIGHT.remove(key, load)) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                callback.run();
+            } finally {
+                recordEdtTime(key, System.nanoTime() - start);
+            }
+        });
+    }
+
+    // Membatalkan semua load yang key-nya diawali prefix (misalnya nama panel)
+    public static void cancel(String keyPrefix) {
+        for (Map.Entry<String, Load> entry : IN_FLIGHT.entrySet()) {
+            if (entry.getKey().startsWith(keyPrefix) && IN_FLIGHT.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().cancel();
+            }
+        }
+    }
+
+    public static boolean isLoading(String keyPrefix) {
+        for (String key : IN_FLIGHT.keySet()) {
+            if (key.startsWith(keyPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void recordEdtTime(String key, long nanos) {
+        int slash = key.indexOf('/');
+        String panel = slash < 0 ? key : key.substring(0, slash);
+        EDT_TIMINGS.computeIfAbsent(panel, name -> new EdtTiming()).record(nanos);
+    }
+
+    // Waktu yang dihabiskan di EDT untuk menerapkan hasil load, per panel
+    public static Map<String, EdtTimingSnapshot> getEdtTimings() {
+        Map<String, EdtTimingSnapshot> snapshot = new TreeMap<>();
+        for (Map.Entry<String, EdtTiming> entry : EDT_TIMINGS.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    public static List<String> inFlightKeys() {
+        return new ArrayList<>(IN_FLIGHT.keySet());
+    }
+
+    public record EdtTimingSnapshot(long count, double totalMillis, double maxMillis, double lastMillis) {
+        public double avgMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+    }
+
+    private static class EdtTiming {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile long lastNanos;
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastNanos = nanos;
+        }
+
+        EdtTimingSnapshot snapshot() {
+            return new EdtTimingSnapshot(count.get(), totalNanos.get() / 1e6, maxNanos.get() / 1e6, lastNanos / 1e6);
+        }
+    }
+
+    private static class Load {
+        volatile Future<?> future;
+        volatile boolean cancelled;
+
+        void cancel() {
+            cancelled = true;
+            Future<?> current = future;
+            if (current != null) {
+                // Tanpa interrupt: driver SQLite tidak bisa dihentikan di tengah query
+                current.cancel(false);
+            }
+        }
+    }
+}
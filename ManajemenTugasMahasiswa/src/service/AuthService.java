@@ -0,0 +1,83 @@
+package service;
+
+import cache.UserDataCache;
+import cache.UsernameIndex;
+import controller.RegistrationResult;
+import controller.UserController;
+import model.User;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Login dan registrasi di luar EDT lewat AsyncLoader. Hashing password dan query berjalan
+ * di thread background; callback dipanggil di EDT. Request baru menggantikan request yang
+ * masih berjalan, dan cancel() membuang hasil yang belum terkirim (misalnya user pindah
+ * panel). Hash yang sudah berjalan tidak bisa dihentikan, hanya hasilnya yang diabaikan.
+ *
+ * Setelah login berhasil, working set dashboard (course dan deadline 14 hari ke depan)
+ * langsung dimuat ke UserDataCache secara paralel, selagi EDT membangun dashboard. Query
+ * dashboard yang datang belakangan menunggu load yang sama di cache, bukan menjalankan
+ * query kedua.
+ */
+public final class AuthService {
+    private static final Logger LOGGER = Logger.getLogger(AuthService.class.getName());
+    private static final String KEY_PREFIX = "auth/";
+    // Jendela deadline yang sama dengan DashboardPanel
+    private static final int UPCOMING_DAYS = 14;
+
+    private AuthService() {
+    }
+
+    // onResult menerima null jika username atau password salah
+    public static void login(String username, String password, Consumer<User> onResult, Consumer<Throwable> onFailed) {
+        AsyncLoader.load(KEY_PREFIX + "login", () -> {
+            long start = System.nanoTime();
+            User user = UserController.authenticateUser(username, password);
+            LOGGER.info(String.format("Login: authentication took %.1f ms", (System.nanoTime() - start) / 1e6));
+            if (user != null) {
+                prefetchWorkingSet(user.getUserId());
+            }
+            return user;
+        }, onResult, onFailed);
+    }
+
+    public static void register(String username, String password, Consumer<RegistrationResult> onResult, Consumer<Throwable> onFailed) {
+        AsyncLoader.load(KEY_PREFIX + "register", () -> {
+            RegistrationResult result = UserController.registerUser(username, password);
+            // Nama yang ditolak UNIQUE juga dicatat: berarti index tertinggal dari database
+            if (result != RegistrationResult.FAILED) {
+                UsernameIndex.add(username);
+            }
+            return result;
+        }, onResult, onFailed);
+    }
+    
+    // Muat UsernameIndex untuk cek ketersediaan di form registrasi; onLoaded dipanggil di EDT
+    public static void loadUsernameIndex(Runnable onLoaded) {
+        if (UsernameIndex.isLoaded()) {
+            onLoaded.run();
+            return;
+        }
+        AsyncLoader.load("usernames", () -> {
+            UsernameIndex.load();
+            return null;
+        }, ignored -> onLoaded.run(), Throwable::printStackTrace);
+    }
+
+    public static void cancel() {
+        AsyncLoader.cancel(KEY_PREFIX);
+    }
+
+    // Yang ditampilkan dashboard pertama kali; riwayat task lengkap baru dimuat di halaman tugas
+    private static void prefetchWorkingSet(int userId) {
+        long start = System.nanoTime();
+        AsyncLoader.runInBackground(() -> {
+            UserDataCache.getUpcomingDeadlines(userId, UPCOMING_DAYS);
+            LOGGER.info(String.format("Login: upcoming tasks prefetched in %.1f ms", (System.nanoTime() - start) / 1e6));
+        });
+        AsyncLoader.runInBackground(() -> {
+            UserDataCache.getCourses(userId);
+            LOGGER.info(String.format("Login: courses prefetched in %.1f ms", (System.nanoTime() - start) / 1e6));
+        });
+    }
+}
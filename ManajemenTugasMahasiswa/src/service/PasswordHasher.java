@@ -0,0 +1,90 @@
+package service;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Hash password PBKDF2-HMAC-SHA256 dengan salt acak per user. Format yang disimpan:
+ * "pbkdf2-sha256$iterasi$salt$hash" (Base64), jadi jumlah iterasi bisa dinaikkan
+ * (-Dauth.pbkdf2.iterations) tanpa membuat hash lama tidak valid.
+ *
+ * Nilai tanpa prefix dianggap password plaintext dari versi lama; needsRehash
+ * mengembalikan true untuk nilai itu dan untuk hash dengan iterasi di bawah setting,
+ * sehingga UserController bisa meng-upgrade-nya saat login berhasil.
+ * Hashing sengaja mahal: hanya dipanggil dari thread background.
+ */
+public final class PasswordHasher {
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final int ITERATIONS = Integer.getInteger("auth.pbkdf2.iterations", 210_000);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PasswordHasher() {
+    }
+
+    public static String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        return format(ITERATIONS, salt, derive(password, salt, ITERATIONS));
+    }
+
+    public static boolean verify(String password, String stored) {
+        if (stored == null) {
+            return false;
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !parts[0].equals(PREFIX)) {
+            // Plaintext lama; dibandingkan dengan waktu konstan seperti hash
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        int iterations;
+        try {
+            iterations = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] expected = decoder.decode(parts[3]);
+        return MessageDigest.isEqual(expected, derive(password, decoder.decode(parts[2]), iterations));
+    }
+
+    public static boolean needsRehash(String stored) {
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !parts[0].equals(PREFIX)) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(parts[1]) < ITERATIONS;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public static int getIterations() {
+        return ITERATIONS;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            // PBKDF2WithHmacSHA256 wajib ada di setiap JRE
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String format(int iterations, byte[] salt, byte[] hash) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+}
@@ -0,0 +1,63 @@
+package service;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Waktu fase startup dan login. Setiap mark dicatat sebagai milidetik sejak JVM start
+ * (dari RuntimeMXBean) dan langsung di-log, jadi urutan fase terlihat di log aplikasi.
+ * Latensi login diukur dari klik login sampai data dashboard pertama kali tampil.
+ */
+public final class StartupTimer {
+    private static final Logger LOGGER = Logger.getLogger(StartupTimer.class.getName());
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private static final Map<String, Long> MARKS = Collections.synchronizedMap(new LinkedHashMap<>());
+    private static volatile long loginStartNanos;
+    private static volatile double lastLoginMillis = -1;
+
+    private StartupTimer() {
+    }
+
+    // Catat fase hanya sekali; mark berikutnya dengan nama yang sama diabaikan
+    public static void mark(String phase) {
+        long sinceJvmStart = System.currentTimeMillis() - JVM_START_MILLIS;
+        if (MARKS.putIfAbsent(phase, sinceJvmStart) == null) {
+            LOGGER.info(String.format("Startup: %s at %d ms since JVM start", phase, sinceJvmStart));
+        }
+    }
+
+    // Durasi satu fase yang berjalan paralel (misalnya init database di background)
+    public static void logDuration(String phase, long startNanos) {
+        LOGGER.info(String.format("Startup: %s took %.1f ms", phase, (System.nanoTime() - startNanos) / 1e6));
+    }
+
+    public static void loginStarted() {
+        loginStartNanos = System.nanoTime();
+    }
+
+    // Dipanggil saat data dashboard tampil; hanya dihitung sekali per login
+    public static void dashboardReady() {
+        long start = loginStartNanos;
+        if (start == 0) {
+            return;
+        }
+        loginStartNanos = 0;
+        lastLoginMillis = (System.nanoTime() - start) / 1e6;
+        LOGGER.info(String.format("Login: dashboard ready %.1f ms after login", lastLoginMillis));
+    }
+
+    // -1 jika belum ada login yang selesai
+    public static double getLastLoginMillis() {
+        return lastLoginMillis;
+    }
+
+    public static Map<String, Long> getMarks() {
+        synchronized (MARKS) {
+            return new LinkedHashMap<>(MARKS);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package view;
 
+import event.DomainEvent;
+import event.EventBus;
 import model.User;
+import monitoring.PanelRefreshEvent;
+import service.AsyncLoader;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 public abstract class BasePanel extends JPanel {
     protected MainFrame mainFrame;
@@ -16,6 +25,17 @@ public abstract class BasePanel extends JPanel {
     protected JButton taskButton;
     protected JButton logoutButton;
     
+    // Indikator loading untuk query yang berjalan di background
+    protected JLabel loadingLabel;
+    private final Set<String> pendingLoads = new HashSet<>();
+    // Event JFR untuk refreshData yang sedang berjalan; selesai saat semua load selesai
+    private PanelRefreshEvent refreshEvent;
+    // Ada load yang dibatalkan saat panel disembunyikan; datanya dimuat ulang saat tampil lagi
+    private boolean reloadOnShow;
+    
+    // Perubahan data dari controller, diterima di EDT paling banyak sekali per frame
+    private final EventBus.Subscription eventSubscription = EventBus.subscribe(this::applyEvents);
+    
     // Colors - konsisten dengan design
     protected final Color BACKGROUND_COLOR = new Color(240, 240, 240);
     protected final Color CARD_COLOR = new Color(220, 180, 220);
@@ -64,19 +84,23 @@ public abstract class BasePanel extends JPanel {
                 Graphics2D g2 = (Graphics2D) g.create();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 
-                // Draw background
-                if (getModel().isPressed()) {
-                    g2.setColor(NAV_COLOR.darker());
-                } else if (getModel().isRollover()) {
-                    g2.setColor(NAV_COLOR.brighter());
-                } else {
-                    g2.setColor(NAV_COLOR);
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-                
-                // Draw icon
-                g2.setColor(TEXT_COLOR);
-                drawCustomIcon(g2, iconText, getWidth(), getHeight());
+                // Background dan ikon dirasterisasi sekali per state; hover hanya menukar gambar
+                String state = getModel().isPressed() ? "pressed" : getModel().isRollover() ? "rollover" : "normal";
+                int width = getWidth();
+                int height = getHeight();
+                RasterCache.paint(g2, "nav:" + iconText + ":" + state, width, height, image -> {
+                    if (state.equals("pressed")) {
+                        image.setColor(NAV_COLOR.darker());
+                    } else if (state.equals("rollover")) {
+                        image.setColor(NAV_COLOR.brighter());
+                    } else {
+                        image.setColor(NAV_COLOR);
+                    }
+                    image.fillRoundRect(0, 0, width, height, 15, 15);
+                    
+                    image.setColor(TEXT_COLOR);
+                    drawCustomIcon(image, iconText, width, height);
+                });
                 
                 // Draw text
                 g2.setFont(new Font("Arial", Font.PLAIN, 10));
@@ -147,10 +171,108 @@ public abstract class BasePanel extends JPanel {
         titleLabel.setBorder(new EmptyBorder(0, 20, 0, 0));
         
         headerPanel.add(titleLabel, BorderLayout.WEST);
+        headerPanel.add(createLoadingLabel(), BorderLayout.EAST);
         
         return headerPanel;
     }
     
+    protected JLabel createLoadingLabel() {
+        loadingLabel = new JLabel("Memuat...");
+        loadingLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+        loadingLabel.setForeground(Color.LIGHT_GRAY);
+        loadingLabel.setBorder(new EmptyBorder(0, 20, 0, 20));
+        loadingLabel.setVisible(!pendingLoads.isEmpty());
+        return loadingLabel;
+    }
+    
+    // Menjalankan query di background thread; onLoaded dipanggil di EDT dengan hasilnya
+    protected <T> void loadAsync(String name, Callable<T> query, Consumer<T> onLoaded) {
+        pendingLoads.add(name);
+        updateLoadingState();
+        
+        AsyncLoader.load(getLoadKey() + "/" + name, query, result -> {
+            pendingLoads.remove(name);
+            updateLoadingState();
+            onLoaded.accept(result);
+            loadFinished(result);
+        }, error -> {
+            pendingLoads.remove(name);
+            updateLoadingState();
+            error.printStackTrace();
+            loadFinished(null);
+        });
+    }
+    
+    // Dicek setelah onLoaded, karena onLoaded bisa memulai load berikutnya (misalnya halaman tabel)
+    private void loadFinished(Object result) {
+        if (refreshEvent == null) {
+            return;
+        }
+        refreshEvent.loadFinished(result);
+        if (pendingLoads.isEmpty()) {
+            refreshEvent.finish(false);
+            refreshEvent = null;
+        }
+    }
+    
+    // Muat ulang penuh; durasinya (sampai semua load selesai) dicatat sebagai event JFR
+    public final void refreshData() {
+        if (refreshEvent != null) {
+            refreshEvent.finish(true);
+        }
+        refreshEvent = PanelRefreshEvent.begin(getClass().getSimpleName(), currentUser.getUserId());
+        reloadOnShow = false;
+        reloadData();
+        if (pendingLoads.isEmpty()) {
+            refreshEvent.finish(false);
+            refreshEvent = null;
+        }
+    }
+    
+    // Dipanggil MainFrame saat panel ini tidak lagi ditampilkan
+    public void cancelLoads() {
+        if (!pendingLoads.isEmpty()) {
+            reloadOnShow = true;
+        }
+        AsyncLoader.cancel(getLoadKey() + "/");
+        pendingLoads.clear();
+        updateLoadingState();
+        if (refreshEvent != null) {
+            refreshEvent.finish(true);
+            refreshEvent = null;
+        }
+    }
+    
+    // Dipanggil MainFrame saat panel ditampilkan lagi; panel tidak dimuat ulang saat navigasi,
+    // jadi hasil load yang dibatalkan tidak akan pernah datang
+    public void reloadIfCancelled() {
+        if (reloadOnShow) {
+            refreshData();
+        }
+    }
+    
+    // Dipanggil MainFrame saat panel dibuang (logout)
+    public void detach() {
+        eventSubscription.cancel();
+        cancelLoads();
+    }
+    
+    protected boolean isLoading(String name) {
+        return pendingLoads.contains(name);
+    }
+    
+    protected String getLoadKey() {
+        return getClass().getSimpleName();
+    }
+    
+    private void updateLoadingState() {
+        boolean loading = !pendingLoads.isEmpty();
+        setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+        if (loadingLabel != null) {
+            loadingLabel.setVisible(loading);
+        }
+    }
+    
     // Navigation event handlers
     protected void handleHome(ActionEvent e) {
         mainFrame.showDashboardPanel(currentUser);
@@ -179,7 +301,10 @@ public abstract class BasePanel extends JPanel {
     
     // Abstract methods yang harus diimplementasi oleh subclass
     protected abstract void handleAdd(ActionEvent e);
-    public abstract void refreshData();
+    protected abstract void reloadData();
+    
+    // Menerapkan delta dari event; refreshData hanya untuk muat ulang penuh
+    protected abstract void applyEvents(List<DomainEvent> events);
     
     // Utility methods
     public void setCurrentUser(User user) {
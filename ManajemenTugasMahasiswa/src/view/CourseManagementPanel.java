@@ -1,6 +1,10 @@
 package view;
 
+import cache.UserDataCache;
 import controller.CourseController;
+import controller.CourseDeletion;
+import event.CourseChanged;
+import event.DomainEvent;
 import model.User;
 import model.Course;
 import javax.swing.*;
@@ -9,6 +13,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 
 public class CourseManagementPanel extends BasePanel {
@@ -17,6 +22,8 @@ public class CourseManagementPanel extends BasePanel {
     private JButton addButton;
     private JButton deleteButton;
     private Course selectedCourse;
+    // Course yang sedang ditampilkan, urut nama; item ke-i ada di komponen 2*i (diikuti strut)
+    private final List<Course> shownCourses = new ArrayList<>();
     
     // Additional colors specific to course management
     private final Color COURSE_ITEM_COLOR = new Color(200, 200, 200);
@@ -27,7 +34,7 @@ public class CourseManagementPanel extends BasePanel {
         this.selectedCourse = null;
         initCourseComponents();
         setupCourseLayout();
-        loadCourses();
+        refreshData();
     }
     
     private void initCourseComponents() {
@@ -185,8 +192,14 @@ public class CourseManagementPanel extends BasePanel {
     }
     
     private void loadCourses() {
+        int userId = currentUser.getUserId();
+        loadAsync("courses", () -> UserDataCache.getCourses(userId), this::showCourses);
+    }
+    
+    private void showCourses(List<Course> courses) {
         coursesPanel.removeAll();
-        List<Course> courses = CourseController.getCoursesByUserId(currentUser.getUserId());
+        shownCourses.clear();
+        shownCourses.addAll(courses);
         
         if (courses.isEmpty()) {
             JLabel noCoursesLabel = new JLabel("Belum ada mata kuliah");
@@ -283,16 +296,12 @@ public class CourseManagementPanel extends BasePanel {
         }
         
         Course course = new Course(courseName, currentUser.getUserId());
-        boolean success = course.saveToDB();
+        boolean success = CourseController.addCourse(course);
         
         if (success) {
             JOptionPane.showMessageDialog(this, "Mata kuliah berhasil ditambahkan!", "Success", JOptionPane.INFORMATION_MESSAGE);
             courseNameField.setText("");
             selectedCourse = null;
-            loadCourses();
-            
-            // Refresh all panels in main frame
-            mainFrame.refreshAllPanels();
         } else {
             JOptionPane.showMessageDialog(this, "Gagal menambahkan mata kuliah!", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -312,15 +321,11 @@ public class CourseManagementPanel extends BasePanel {
         );
         
         if (option == JOptionPane.YES_OPTION) {
-            boolean success = CourseController.deleteCourse(selectedCourse.getCourseId());
+            CourseDeletion deletion = CourseController.deleteCourse(selectedCourse.getCourseId(), currentUser.getUserId());
             
-            if (success) {
-                JOptionPane.showMessageDialog(this, "Mata kuliah berhasil dihapus!", "Success", JOptionPane.INFORMATION_MESSAGE);
+            if (deletion.deleted()) {
+                JOptionPane.showMessageDialog(this, "Mata kuliah berhasil dihapus beserta " + deletion.academicTasks() + " tugas!", "Success", JOptionPane.INFORMATION_MESSAGE);
                 selectedCourse = null;
-                loadCourses();
-                
-                // Refresh all panels in main frame
-                mainFrame.refreshAllPanels();
             } else {
                 JOptionPane.showMessageDialog(this, "Gagal menghapus mata kuliah!", "Error", JOptionPane.ERROR_MESSAGE);
             }
@@ -335,11 +340,67 @@ public class CourseManagementPanel extends BasePanel {
     }
     
     @Override
-    public void refreshData() {
+    protected void reloadData() {
         selectedCourse = null;
         loadCourses();
     }
     
+    @Override
+    protected void applyEvents(List<DomainEvent> events) {
+        if (isLoading("courses")) {
+            loadCourses();
+            return;
+        }
+        
+        boolean changed = false;
+        for (DomainEvent event : events) {
+            if (event instanceof CourseChanged courseChanged) {
+                if (courseChanged.deleted()) {
+                    removeCourseItem(courseChanged.courseId());
+                } else {
+                    insertCourseItem(courseChanged.course());
+                }
+                changed = true;
+            }
+        }
+        
+        if (changed) {
+            coursesPanel.revalidate();
+            coursesPanel.repaint();
+        }
+    }
+    
+    private void insertCourseItem(Course course) {
+        if (shownCourses.isEmpty()) {
+            // Buang label "Belum ada mata kuliah"
+            coursesPanel.removeAll();
+        }
+        int index = 0;
+        while (index < shownCourses.size() && shownCourses.get(index).getCourseName().compareTo(course.getCourseName()) <= 0) {
+            index++;
+        }
+        shownCourses.add(index, course);
+        coursesPanel.add(createCourseItem(course), index * 2);
+        coursesPanel.add(Box.createVerticalStrut(2), index * 2 + 1);
+    }
+    
+    private void removeCourseItem(int courseId) {
+        for (int index = 0; index < shownCourses.size(); index++) {
+            if (shownCourses.get(index).getCourseId() == courseId) {
+                shownCourses.remove(index);
+                coursesPanel.remove(index * 2 + 1);
+                coursesPanel.remove(index * 2);
+                break;
+            }
+        }
+        if (selectedCourse != null && selectedCourse.getCourseId() == courseId) {
+            selectedCourse = null;
+        }
+        if (shownCourses.isEmpty()) {
+            showCourses(List.of());
+        }
+    }
+    
     // Override navigation to highlight current page
     @Override
     protected void handleCourse(ActionEvent e) {
@@ -1,32 +1,41 @@
 package view;
 
+import cache.UserDataCache;
 import controller.TaskController;
+import controller.TaskCursor;
+import event.CourseChanged;
+import event.DomainEvent;
+import event.TaskCreated;
+import event.TaskDeleted;
+import event.TaskUpdated;
 import model.User;
 import model.abstractes.TaskBase;
 import model.AcademicTask;
+import model.enums.Status;
+import service.StartupTimer;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.Locale;
 
 public class DashboardPanel extends BasePanel {
-    private JPanel deadlinesPanel;
+    private DeadlineGrid deadlineGrid;
+    // Pengingat hanya ditampilkan sekali, dari hasil load pertama setelah panel dibuat
+    private boolean remindersPending = true;
+    // Hasil load terakhir, urut (deadline, kind, id); event diterapkan langsung ke list ini
+    private List<TaskBase> upcomingTasks;
+    private LocalDate loadedDay;
 
-    // Layout constants
-    private final int CARD_WIDTH = 175;
-    private final int CARD_HEIGHT = 80;
-    private final int CARDS_PER_ROW = 4;
-    private final int CARD_SPACING = 10;
+    private final int UPCOMING_DAYS = 14;
+    private final int REMINDER_DAYS = 3;
+    private final int RELOAD_THRESHOLD = 200;
 
     // Additional colors specific to dashboard
     private final Color TASK_CARD_COLOR = new Color(220, 180, 220);
@@ -36,17 +45,13 @@ public class DashboardPanel extends BasePanel {
         super(mainFrame, user);
         initDashboardComponents();
         setupDashboardLayout();
-        loadUpcomingTasks();
-        checkDeadlineReminders();
+        refreshData();
     }
 
     private void initDashboardComponents() {
-        // Initialize deadlines panel dengan padding yang tepat
-        deadlinesPanel = new JPanel();
-        deadlinesPanel.setLayout(new BoxLayout(deadlinesPanel, BoxLayout.Y_AXIS));
-        deadlinesPanel.setBackground(BACKGROUND_COLOR);
-        // Kurangi padding kanan untuk mencegah terpotong
-        deadlinesPanel.setBorder(new EmptyBorder(20, 20, 20, 0));
+        // Satu komponen yang menggambar semua kartu; jumlah komponen tidak ikut jumlah task
+        deadlineGrid = new DeadlineGrid(BACKGROUND_COLOR, TASK_CARD_COLOR, DATE_HEADER_COLOR, TEXT_COLOR,
+            this::courseLabel, task -> new TaskDetailDialog(mainFrame, task, this).setVisible(true));
     }
 
     // Custom ScrollBar UI untuk menyembunyikan scrollbar
@@ -133,8 +138,13 @@ public class DashboardPanel extends BasePanel {
         welcomeLabel.setForeground(Color.LIGHT_GRAY);
         welcomeLabel.setBorder(new EmptyBorder(0, 20, 0, 20));
 
+        JPanel headerRight = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 20));
+        headerRight.setOpaque(false);
+        headerRight.add(createLoadingLabel());
+        headerRight.add(welcomeLabel);
+
         headerPanel.add(titleLabel, BorderLayout.WEST);
-        headerPanel.add(welcomeLabel, BorderLayout.EAST);
+        headerPanel.add(headerRight, BorderLayout.EAST);
 
         // Main content panel
         JPanel mainPanel = new JPanel(new BorderLayout());
@@ -147,7 +157,7 @@ public class DashboardPanel extends BasePanel {
         deadlinesTitle.setBorder(new EmptyBorder(20, 20, 10, 20));
 
         // Scroll pane for deadlines dengan invisible scrollbar
-        JScrollPane scrollPane = createInvisibleScrollPane(deadlinesPanel);
+        JScrollPane scrollPane = createInvisibleScrollPane(deadlineGrid);
 
         mainPanel.add(deadlinesTitle, BorderLayout.NORTH);
         mainPanel.add(scrollPane, BorderLayout.CENTER);
@@ -162,200 +172,43 @@ public class DashboardPanel extends BasePanel {
     }
 
     private void loadUpcomingTasks() {
-        deadlinesPanel.removeAll();
-
-        List<TaskBase> upcomingTasks = TaskController.getUpcomingDeadlines(currentUser.getUserId(), 14);
-
-        if (upcomingTasks.isEmpty()) {
-            JLabel noTasksLabel = new JLabel("Tidak ada tugas mendatang");
-            noTasksLabel.setFont(new Font("Arial", Font.ITALIC, 14));
-            noTasksLabel.setForeground(TEXT_COLOR.brighter());
-            noTasksLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            noTasksLabel.setBorder(new EmptyBorder(50, 0, 50, 0));
-            deadlinesPanel.add(noTasksLabel);
-        } else {
-            // Group tasks by date
-            Map<LocalDate, List<TaskBase>> tasksByDate = upcomingTasks.stream()
-                .collect(Collectors.groupingBy(TaskBase::getDeadline));
-
-            // Sort dates
-            tasksByDate.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> {
-                    LocalDate date = entry.getKey();
-                    List<TaskBase> tasks = entry.getValue();
-
-                    // Add date header
-                    deadlinesPanel.add(createDateHeader(date));
-                    deadlinesPanel.add(Box.createVerticalStrut(10));
-
-                    // Add task cards dengan grid layout yang responsif
-                    deadlinesPanel.add(createTaskGrid(tasks));
-                    deadlinesPanel.add(Box.createVerticalStrut(20));
-                });
-        }
-
-        deadlinesPanel.revalidate();
-        deadlinesPanel.repaint();
-    }
-
-    private JPanel createTaskGrid(List<TaskBase> tasks) {
-        JPanel gridPanel = new JPanel();
-        gridPanel.setBackground(BACKGROUND_COLOR);
-        gridPanel.setLayout(new BoxLayout(gridPanel, BoxLayout.Y_AXIS));
-
-        // Calculate rows needed
-        int totalTasks = tasks.size();
-        int rows = (int) Math.ceil((double) totalTasks / CARDS_PER_ROW);
-
-        for (int row = 0; row < rows; row++) {
-            JPanel rowPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, CARD_SPACING, 0));
-            rowPanel.setBackground(BACKGROUND_COLOR);
-
-            // Calculate tasks for this row
-            int startIndex = row * CARDS_PER_ROW;
-            int endIndex = Math.min(startIndex + CARDS_PER_ROW, totalTasks);
-            int tasksInThisRow = endIndex - startIndex;
-
-            // Add tasks to this row
-            for (int i = startIndex; i < endIndex; i++) {
-                TaskBase task = tasks.get(i);
-                JPanel taskCard = createTaskCard(task, tasksInThisRow);
-                rowPanel.add(taskCard);
-            }
-
-            gridPanel.add(rowPanel);
-
-            // Add spacing between rows if not the last row
-            if (row < rows - 1) {
-                gridPanel.add(Box.createVerticalStrut(CARD_SPACING));
+        int userId = currentUser.getUserId();
+        LocalDate today = LocalDate.now();
+        // Satu query untuk jendela 14 hari; jendela pengingat 3 hari adalah prefix-nya
+        loadAsync("upcoming", () -> UserDataCache.getUpcomingDeadlines(userId, UPCOMING_DAYS), upcomingTasks -> {
+            this.upcomingTasks = new ArrayList<>(upcomingTasks);
+            this.loadedDay = today;
+            showUpcomingTasks(upcomingTasks);
+            // Dijadwalkan setelah repaint grid yang baru saja di-queue, jadi termasuk frame pertamanya
+            SwingUtilities.invokeLater(StartupTimer::dashboardReady);
+            if (remindersPending) {
+                remindersPending = false;
+                checkDeadlineReminders(upcomingTasks);
             }
-        }
-
-        return gridPanel;
+        });
     }
 
-    private JPanel createDateHeader(LocalDate date) {
-        // Container panel untuk mengatur margin
-        JPanel containerPanel = new JPanel(new BorderLayout());
-        containerPanel.setBackground(BACKGROUND_COLOR);
-        containerPanel.setOpaque(false);
-
-        JPanel headerPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                g2.setColor(DATE_HEADER_COLOR);
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
-
-                g2.dispose();
-            }
-        };
-
-        headerPanel.setOpaque(false);
-        headerPanel.setPreferredSize(new Dimension(0, 35));
-        headerPanel.setLayout(new BorderLayout());
-
-        String dayName = date.getDayOfWeek().getDisplayName(TextStyle.FULL, new Locale("id", "ID"));
-        String dateStr = date.format(DateTimeFormatter.ofPattern("MMMM d, yyyy", new Locale("id", "ID")));
-
-        JLabel dateLabel = new JLabel(dayName + ", " + dateStr);
-        dateLabel.setFont(new Font("Arial", Font.BOLD, 14));
-        dateLabel.setForeground(Color.WHITE);
-        dateLabel.setBorder(new EmptyBorder(0, 15, 0, 15));
-
-        headerPanel.add(dateLabel, BorderLayout.WEST);
-
-        // Tambahkan margin kanan untuk mencegah border radius terpotong
-        containerPanel.add(headerPanel, BorderLayout.CENTER);
-        containerPanel.setBorder(new EmptyBorder(0, 0, 0, 10));
-
-        // Set maximum size untuk mencegah stretching
-        containerPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
-
-        return containerPanel;
+    private void showUpcomingTasks(List<TaskBase> upcomingTasks) {
+        deadlineGrid.setTasks(upcomingTasks);
     }
 
-    private JPanel createTaskCard(TaskBase task, int tasksInRow) {
-        JPanel cardPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Add hover effect
-                if (getMousePosition() != null) {
-                    g2.setColor(TASK_CARD_COLOR.brighter());
-                } else {
-                    g2.setColor(TASK_CARD_COLOR);
-                }
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-
-                g2.dispose();
-            }
-        };
-
-        cardPanel.setOpaque(false);
-        cardPanel.setLayout(new BorderLayout());
-        cardPanel.setBorder(new EmptyBorder(15, 15, 15, 15));
-
-        // Set fixed size untuk konsistensi
-        cardPanel.setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
-        cardPanel.setMinimumSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
-        cardPanel.setMaximumSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
-
-        // Course name or category
-        String courseName = "";
-        if (task instanceof AcademicTask) {
-            courseName = TaskController.getCourseName(((AcademicTask) task).getCourseId());
-        } else {
-            courseName = "Personal";
+    private String courseLabel(TaskBase task) {
+        if (task instanceof AcademicTask academicTask) {
+            return TaskController.getCourseName(academicTask, currentUser.getUserId());
         }
-
-        JLabel courseLabel = new JLabel(courseName);
-        courseLabel.setFont(new Font("Arial", Font.BOLD, 12));
-        courseLabel.setForeground(TEXT_COLOR);
-
-        JLabel taskLabel = new JLabel("<html>" + task.getTitle() + "</html>");
-        taskLabel.setFont(new Font("Arial", Font.PLAIN, 11));
-        taskLabel.setForeground(TEXT_COLOR.brighter());
-        taskLabel.setVerticalAlignment(SwingConstants.TOP);
-
-        JPanel textPanel = new JPanel(new BorderLayout());
-        textPanel.setOpaque(false);
-        textPanel.add(courseLabel, BorderLayout.NORTH);
-        textPanel.add(taskLabel, BorderLayout.CENTER);
-
-        cardPanel.add(textPanel, BorderLayout.CENTER);
-
-        // Add click handler
-        cardPanel.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        cardPanel.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                // Open task detail dialog
-                new TaskDetailDialog(mainFrame, task, DashboardPanel.this).setVisible(true);
-            }
-
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                cardPanel.repaint();
-            }
-
-            @Override
-            public void mouseExited(MouseEvent e) {
-                cardPanel.repaint();
-            }
-        });
-
-        return cardPanel;
+        return "Personal";
     }
 
-    private void checkDeadlineReminders() {
-        List<TaskBase> urgentTasks = TaskController.getUpcomingDeadlines(currentUser.getUserId(), 3);
+    private void checkDeadlineReminders(List<TaskBase> upcomingTasks) {
+        LocalDate reminderLimit = LocalDate.now().plusDays(REMINDER_DAYS);
+        List<TaskBase> urgentTasks = upcomingTasks.stream()
+            .filter(task -> !task.getDeadline().isAfter(reminderLimit))
+            .collect(Collectors.toList());
+        // Dialog modal ditampilkan terpisah supaya tidak terhitung sebagai waktu render panel
+        SwingUtilities.invokeLater(() -> showDeadlineReminders(urgentTasks));
+    }
 
+    private void showDeadlineReminders(List<TaskBase> urgentTasks) {
         if (!urgentTasks.isEmpty()) {
             StringBuilder message = new StringBuilder("Tugas dengan deadline mendekat:\n\n");
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
@@ -376,10 +229,66 @@ public class DashboardPanel extends BasePanel {
     }
 
     @Override
-    public void refreshData() {
+    protected void reloadData() {
         loadUpcomingTasks();
     }
 
+    // Jendela "mendatang" dihitung dari hari load; setelah lewat tengah malam harus dimuat ulang
+    public void refreshIfDayChanged() {
+        if (loadedDay != null && !loadedDay.equals(LocalDate.now())) {
+            loadUpcomingTasks();
+        }
+    }
+
+    @Override
+    protected void applyEvents(List<DomainEvent> events) {
+        if (upcomingTasks == null || isLoading("upcoming") || events.size() > RELOAD_THRESHOLD
+                || !loadedDay.equals(LocalDate.now())) {
+            loadUpcomingTasks();
+            return;
+        }
+
+        boolean changed = false;
+        for (DomainEvent event : events) {
+            if (event instanceof TaskCreated created) {
+                changed |= insertIfUpcoming(created.task());
+            } else if (event instanceof TaskUpdated updated) {
+                TaskBase task = updated.task();
+                changed |= removeTask(task instanceof AcademicTask, task.getTaskId());
+                changed |= insertIfUpcoming(task);
+            } else if (event instanceof TaskDeleted deleted) {
+                changed |= removeTask(deleted.academic(), deleted.taskId());
+            } else if (event instanceof CourseChanged courseChanged && courseChanged.deleted()) {
+                changed |= upcomingTasks.removeIf(task ->
+                    task instanceof AcademicTask academic && academic.getCourseId() == courseChanged.courseId());
+            }
+        }
+
+        // Satu render untuk seluruh batch
+        if (changed) {
+            showUpcomingTasks(upcomingTasks);
+        }
+    }
+
+    // Kriteria yang sama dengan TaskController.getUpcomingDeadlines
+    private boolean insertIfUpcoming(TaskBase task) {
+        LocalDate deadline = task.getDeadline();
+        if (task.getStatus() == Status.SELESAI
+                || !deadline.isAfter(loadedDay) || deadline.isAfter(loadedDay.plusDays(UPCOMING_DAYS))) {
+            return false;
+        }
+        int position = Collections.binarySearch(upcomingTasks, task, TaskCursor.ORDER);
+        if (position >= 0) {
+            return false;
+        }
+        upcomingTasks.add(-position - 1, task);
+        return true;
+    }
+
+    private boolean removeTask(boolean academic, int taskId) {
+        return upcomingTasks.removeIf(task -> task.getTaskId() == taskId && (task instanceof AcademicTask) == academic);
+    }
+
     // Override navigation to highlight current page
     @Override
     protected void handleHome(ActionEvent e) {
@@ -0,0 +1,378 @@
+package view;
+
+import model.abstractes.TaskBase;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Grid kartu deadline yang digambar sendiri: satu komponen untuk berapa pun jumlah task.
+ * Task dikelompokkan per tanggal (header lalu baris kartu), posisi setiap kartu dihitung
+ * dari index-nya, dan paint hanya menggambar header dan kartu yang memotong clip viewport.
+ * Klik dan hover di-hit-test dari koordinat mouse, bukan lewat listener per kartu.
+ */
+public class DeadlineGrid extends JComponent implements Scrollable {
+    // Ukuran sama dengan layout lama (FlowLayout kiri per baris, strut di antara baris)
+    private static final int CARD_WIDTH = 175;
+    private static final int CARD_HEIGHT = 80;
+    private static final int CARDS_PER_ROW = 4;
+    private static final int CARD_SPACING = 10;
+    private static final int CARD_PADDING = 15;
+    private static final int HEADER_HEIGHT = 35;
+    private static final int HEADER_RIGHT_MARGIN = 10;
+    private static final int HEADER_GAP = 10;
+    private static final int SECTION_GAP = 20;
+    private static final Insets INSETS = new Insets(20, 20, 20, 0);
+    private static final int SCROLL_UNIT = 16;
+
+    private static final Locale LOCALE_ID = new Locale("id", "ID");
+    private static final DateTimeFormatter HEADER_DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy", LOCALE_ID);
+    private static final Font HEADER_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Font COURSE_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final Font TITLE_FONT = new Font("Arial", Font.PLAIN, 11);
+    private static final Font EMPTY_FONT = new Font("Arial", Font.ITALIC, 14);
+
+    private final Color cardColor;
+    private final Color headerColor;
+    private final Color textColor;
+    private final Function<TaskBase, String> courseLabel;
+    private final Consumer<TaskBase> onCardClicked;
+
+    private List<TaskBase> tasks = new ArrayList<>();
+    private String[] cardLabels = new String[0];
+    private final List<Section> sections = new ArrayList<>();
+    private int contentHeight;
+    // Index kartu di bawah mouse, -1 jika tidak ada
+    private int hoveredCard = -1;
+
+    public DeadlineGrid(Color background, Color cardColor, Color headerColor, Color textColor,
+                        Function<TaskBase, String> courseLabel, Consumer<TaskBase> onCardClicked) {
+        this.cardColor = cardColor;
+        this.headerColor = headerColor;
+        this.textColor = textColor;
+        this.courseLabel = courseLabel;
+        this.onCardClicked = onCardClicked;
+        setBackground(background);
+        setOpaque(true);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHoveredCard(cardAt(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHoveredCard(-1);
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int card = cardAt(e.getX(), e.getY());
+                if (card >= 0) {
+                    onCardClicked.accept(DeadlineGrid.this.tasks.get(card));
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    /**
+     * Ganti isi grid. Task harus sudah urut deadline. Biayanya linear pada jumlah task
+     * (satu label per kartu dan satu pass untuk mengelompokkan tanggal), tapi tanpa komponen
+     * Swing per kartu; yang disimpan hanya offset setiap tanggal, dan paint hanya menyentuh
+     * section serta baris yang memotong clip.
+     */
+    public void setTasks(List<TaskBase> tasks) {
+        this.tasks = new ArrayList<>(tasks);
+        cardLabels = new String[tasks.size()];
+        for (int i = 0; i < cardLabels.length; i++) {
+            cardLabels[i] = courseLabel.apply(tasks.get(i));
+        }
+
+        sections.clear();
+        int y = INSETS.top;
+        int start = 0;
+        while (start < tasks.size()) {
+            LocalDate date = tasks.get(start).getDeadline();
+            int end = start + 1;
+            while (end < tasks.size() && tasks.get(end).getDeadline().equals(date)) {
+                end++;
+            }
+            Section section = new Section(date, start, end, y);
+            sections.add(section);
+            y = section.bottom() + SECTION_GAP;
+            start = end;
+        }
+        contentHeight = y + INSETS.bottom;
+        hoveredCard = -1;
+
+        revalidate();
+        repaint();
+    }
+
+    // Kartu di titik (x, y) dalam koordinat komponen, atau -1
+    int cardAt(int x, int y) {
+        int index = sectionIndexAt(y);
+        Section section = index < 0 ? null : sections.get(index);
+        if (section == null || y < section.cardsTop()) {
+            return -1;
+        }
+        int rowStride = CARD_HEIGHT + CARD_SPACING;
+        int row = (y - section.cardsTop()) / rowStride;
+        int column = (x - INSETS.left - CARD_SPACING) / (CARD_WIDTH + CARD_SPACING);
+        if (x < INSETS.left + CARD_SPACING || column >= CARDS_PER_ROW) {
+            return -1;
+        }
+        int card = section.start + row * CARDS_PER_ROW + column;
+        if (card >= section.end) {
+            return -1;
+        }
+        return cardBounds(section, card).contains(x, y) ? card : -1;
+    }
+
+    // Indeks section terakhir yang dimulai di atas y (binary search pada offset), atau -1
+    private int sectionIndexAt(int y) {
+        int low = 0;
+        int high = sections.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sections.get(mid).top <= y) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private Rectangle cardBounds(Section section, int card) {
+        int index = card - section.start;
+        int x = INSETS.left + CARD_SPACING + (index % CARDS_PER_ROW) * (CARD_WIDTH + CARD_SPACING);
+        int y = section.cardsTop() + (index / CARDS_PER_ROW) * (CARD_HEIGHT + CARD_SPACING);
+        return new Rectangle(x, y, CARD_WIDTH, CARD_HEIGHT);
+    }
+
+    private Section sectionOf(int card) {
+        for (Section section : sections) {
+            if (card < section.end) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    private void setHoveredCard(int card) {
+        if (card == hoveredCard) {
+            return;
+        }
+        repaintCard(hoveredCard);
+        hoveredCard = card;
+        repaintCard(card);
+        setCursor(card >= 0 ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+    }
+
+    private void repaintCard(int card) {
+        if (card >= 0 && card < tasks.size()) {
+            repaint(cardBounds(sectionOf(card), card));
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            Rectangle clip = g2.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            g2.setColor(getBackground());
+            g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            if (tasks.isEmpty()) {
+                paintEmpty(g2);
+                return;
+            }
+
+            // Mulai dari section di clip.y (binary search), berhenti setelah bawah clip;
+            // di dalam section hanya baris yang terlihat
+            for (int index = Math.max(0, sectionIndexAt(clip.y)); index < sections.size(); index++) {
+                Section section = sections.get(index);
+                if (section.bottom() < clip.y) {
+                    continue;
+                }
+                if (section.top > clip.y + clip.height) {
+                    break;
+                }
+                paintHeader(g2, section);
+                int rowStride = CARD_HEIGHT + CARD_SPACING;
+                int firstRow = Math.max(0, (clip.y - section.cardsTop()) / rowStride);
+                int lastRow = Math.min(section.rows() - 1, (clip.y + clip.height - section.cardsTop()) / rowStride);
+                for (int row = firstRow; row <= lastRow; row++) {
+                    int first = section.start + row * CARDS_PER_ROW;
+                    int last = Math.min(first + CARDS_PER_ROW, section.end);
+                    for (int card = first; card < last; card++) {
+                        paintCard(g2, card, cardBounds(section, card));
+                    }
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintEmpty(Graphics2D g2) {
+        String text = "Tidak ada tugas mendatang";
+        g2.setFont(EMPTY_FONT);
+        g2.setColor(textColor.brighter());
+        FontMetrics metrics = g2.getFontMetrics();
+        int x = (getWidth() - metrics.stringWidth(text)) / 2;
+        g2.drawString(text, Math.max(INSETS.left, x), INSETS.top + 50 + metrics.getAscent());
+    }
+
+    private void paintHeader(Graphics2D g2, Section section) {
+        int width = getWidth() - INSETS.left - INSETS.right - HEADER_RIGHT_MARGIN;
+        Graphics2D header = (Graphics2D) g2.create();
+        header.translate(INSETS.left, section.top);
+        RasterCache.paint(header, "deadline-header:" + headerColor.getRGB(), width, HEADER_HEIGHT, image -> {
+            image.setColor(headerColor);
+            image.fillRoundRect(0, 0, width, HEADER_HEIGHT, 20, 20);
+        });
+        header.dispose();
+
+        g2.setFont(HEADER_FONT);
+        g2.setColor(Color.WHITE);
+        FontMetrics metrics = g2.getFontMetrics();
+        int baseline = section.top + (HEADER_HEIGHT - metrics.getHeight()) / 2 + metrics.getAscent();
+        g2.drawString(section.label, INSETS.left + 15, baseline);
+    }
+
+    private void paintCard(Graphics2D g2, int card, Rectangle bounds) {
+        Color background = card == hoveredCard ? cardColor.brighter() : cardColor;
+        Graphics2D face = (Graphics2D) g2.create();
+        face.translate(bounds.x, bounds.y);
+        RasterCache.paint(face, "deadline-card:" + background.getRGB(), bounds.width, bounds.height, image -> {
+            image.setColor(background);
+            image.fillRoundRect(0, 0, bounds.width, bounds.height, 15, 15);
+        });
+        face.dispose();
+
+        Shape previousClip = g2.getClip();
+        int textWidth = bounds.width - 2 * CARD_PADDING;
+        g2.clipRect(bounds.x + CARD_PADDING, bounds.y + CARD_PADDING, textWidth, bounds.height - 2 * CARD_PADDING);
+
+        g2.setFont(COURSE_FONT);
+        g2.setColor(textColor);
+        FontMetrics courseMetrics = g2.getFontMetrics();
+        int y = bounds.y + CARD_PADDING + courseMetrics.getAscent();
+        g2.drawString(cardLabels[card], bounds.x + CARD_PADDING, y);
+        y += courseMetrics.getDescent();
+
+        // Judul dibungkus per kata seperti JLabel <html> sebelumnya; baris yang tidak muat utuh tidak digambar
+        g2.setFont(TITLE_FONT);
+        g2.setColor(textColor.brighter());
+        FontMetrics titleMetrics = g2.getFontMetrics();
+        int bottom = bounds.y + bounds.height - CARD_PADDING;
+        for (String line : wrap(tasks.get(card).getTitle(), titleMetrics, textWidth)) {
+            y += titleMetrics.getAscent();
+            if (y + titleMetrics.getDescent() > bottom) {
+                break;
+            }
+            g2.drawString(line, bounds.x + CARD_PADDING, y);
+            y += titleMetrics.getDescent() + titleMetrics.getLeading();
+        }
+        g2.setClip(previousClip);
+    }
+
+    private static List<String> wrap(String text, FontMetrics metrics, int width) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split("\\s+")) {
+            if (line.length() > 0 && metrics.stringWidth(line + " " + word) > width) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = INSETS.left + CARD_SPACING + CARDS_PER_ROW * (CARD_WIDTH + CARD_SPACING) + INSETS.right;
+        int height = tasks.isEmpty() ? INSETS.top + 120 + INSETS.bottom : contentHeight;
+        return new Dimension(width, height);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return SCROLL_UNIT;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    // Satu tanggal: header, jarak, lalu baris kartu [start, end) dari list task
+    private static final class Section {
+        final int start;
+        final int end;
+        final int top;
+        final String label;
+
+        Section(LocalDate date, int start, int end, int top) {
+            this.start = start;
+            this.end = end;
+            this.top = top;
+            this.label = date.getDayOfWeek().getDisplayName(TextStyle.FULL, LOCALE_ID) + ", " + date.format(HEADER_DATE_FORMAT);
+        }
+
+        int rows() {
+            return (end - start + CARDS_PER_ROW - 1) / CARDS_PER_ROW;
+        }
+
+        int cardsTop() {
+            return top + HEADER_HEIGHT + HEADER_GAP;
+        }
+
+        int bottom() {
+            return cardsTop() + rows() * CARD_HEIGHT + (rows() - 1) * CARD_SPACING;
+        }
+    }
+}
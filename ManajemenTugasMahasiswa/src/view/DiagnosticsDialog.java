@@ -0,0 +1,181 @@
+package view;
+
+import cache.UserDataCache;
+import database.DatabaseManager;
+import database.QueryMetrics;
+import monitoring.EdtWatchdog;
+import service.StartupTimer;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Jendela diagnostik (Ctrl+Shift+D): statistik query per template SQL, slow query beserta
+ * EXPLAIN QUERY PLAN, handler yang paling sering memblokir EDT, dan ringkasan pool, cache,
+ * dan paint. Data diambil dari snapshot setiap kali Refresh ditekan, jadi dialog ini tidak
+ * menambah beban saat tertutup.
+ */
+public class DiagnosticsDialog extends JDialog {
+    private static final String[] COLUMNS = {
+        "SQL", "Calls", "Errors", "Rows", "Total ms", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"
+    };
+
+    private final QueryTableModel tableModel = new QueryTableModel();
+    private JTextArea summaryArea;
+    private JTextArea slowQueryArea;
+
+    // Colors - konsisten dengan design
+    private final Color BACKGROUND_COLOR = new Color(240, 240, 240);
+    private final Color TEXT_COLOR = new Color(80, 80, 80);
+
+    public DiagnosticsDialog(MainFrame mainFrame) {
+        super(mainFrame, "Diagnostik", false);
+        setSize(900, 600);
+        setLocationRelativeTo(mainFrame);
+        getContentPane().setBackground(BACKGROUND_COLOR);
+        setupLayout();
+        refresh();
+    }
+
+    private void setupLayout() {
+        setLayout(new BorderLayout(0, 10));
+
+        summaryArea = createTextArea();
+        summaryArea.setRows(6);
+
+        JTable table = new JTable(tableModel);
+        table.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(360);
+
+        slowQueryArea = createTextArea();
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+            new JScrollPane(table), new JScrollPane(slowQueryArea));
+        splitPane.setResizeWeight(0.6);
+
+        JButton refreshButton = new JButton("Refresh");
+        refreshButton.addActionListener(e -> refresh());
+        JButton closeButton = new JButton("Tutup");
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(refreshButton);
+        buttonPanel.add(closeButton);
+
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setOpaque(false);
+        content.setBorder(new EmptyBorder(10, 10, 10, 10));
+        content.add(summaryArea, BorderLayout.NORTH);
+        content.add(splitPane, BorderLayout.CENTER);
+        content.add(buttonPanel, BorderLayout.SOUTH);
+        add(content, BorderLayout.CENTER);
+    }
+
+    private JTextArea createTextArea() {
+        JTextArea area = new JTextArea();
+        area.setEditable(false);
+        area.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        area.setForeground(TEXT_COLOR);
+        return area;
+    }
+
+    public void refresh() {
+        // Jangan memicu pembukaan database dari EDT
+        if (!DatabaseManager.isInitialized()) {
+            summaryArea.setText("Database belum siap.");
+            tableModel.setEntries(List.of());
+            slowQueryArea.setText("");
+            return;
+        }
+
+        QueryMetrics metrics = DatabaseManager.getQueryMetrics();
+        EdtWatchdog.Snapshot edt = EdtWatchdog.getSnapshot();
+        double loginMillis = StartupTimer.getLastLoginMillis();
+        summaryArea.setText(String.join("\n",
+            "Query: " + metrics,
+            "Pool: " + DatabaseManager.getPoolMetrics(),
+            "Statement cache: " + DatabaseManager.getStatementCacheMetrics(),
+            "User data cache: " + UserDataCache.getStats(),
+            "Paint: " + PaintMetrics.getSnapshot()
+                + (loginMillis >= 0 ? String.format(", last login %.1f ms", loginMillis) : ""),
+            "EDT: " + edt));
+        tableModel.setEntries(metrics.perTemplate());
+
+        StringBuilder slow = new StringBuilder();
+        for (EdtWatchdog.OffenderStats offender : edt.offenders()) {
+            slow.append("EDT stall: ").append(offender).append('\n');
+            if (offender.stack() != null) {
+                slow.append(offender.stack()).append('\n');
+            }
+            slow.append('\n');
+        }
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        for (QueryMetrics.SlowQuery query : metrics.slowQueries()) {
+            slow.append(String.format("[%s] %.1f ms, %d rows%n%s%n%s%n%n",
+                timeFormat.format(new Date(query.timestampMillis())), query.millis(), query.rows(), query.sql(), query.plan()));
+        }
+        slowQueryArea.setText(slow.length() == 0
+            ? String.format("Belum ada stall EDT di atas %d ms atau query di atas %.0f ms.",
+                edt.thresholdMillis(), metrics.slowThresholdMillis())
+            : slow.toString());
+        slowQueryArea.setCaretPosition(0);
+    }
+
+    private static class QueryTableModel extends AbstractTableModel {
+        private List<QueryMetrics.TemplateEntry> entries = List.of();
+
+        void setEntries(List<QueryMetrics.TemplateEntry> entries) {
+            this.entries = entries;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return entries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            if (column == 0) {
+                return String.class;
+            }
+            return column <= 3 ? Long.class : Double.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            QueryMetrics.TemplateEntry entry = entries.get(row);
+            switch (column) {
+                case 0: return entry.sql();
+                case 1: return entry.calls();
+                case 2: return entry.errors();
+                case 3: return entry.rows();
+                case 4: return round(entry.totalMillis());
+                case 5: return round(entry.meanMillis());
+                case 6: return round(entry.p50Millis());
+                case 7: return round(entry.p95Millis());
+                case 8: return round(entry.p99Millis());
+                default: return round(entry.maxMillis());
+            }
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 1000) / 1000.0;
+        }
+    }
+}
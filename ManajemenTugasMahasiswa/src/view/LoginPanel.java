@@ -1,7 +1,7 @@
 package view;
 
-import controller.UserController;
-import model.User;
+import service.AuthService;
+import service.StartupTimer;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
@@ -291,23 +291,30 @@ public class LoginPanel extends JPanel {
             return;
         }
         
+        StartupTimer.loginStarted();
+        
         // Show loading effect
         loginButton.setText("Loading...");
         loginButton.setEnabled(false);
         
-        // Simulate loading delay (optional)
-        Timer timer = new Timer(500, event -> {
-            User user = UserController.authenticateUser(username, password);
+        // Hash password dan query berjalan di background; EDT tetap responsif
+        AuthService.login(username, password, user -> {
             if (user != null) {
                 mainFrame.showDashboardPanel(user);
             } else {
                 showStyledMessage("Username atau password salah!", "Error", JOptionPane.ERROR_MESSAGE);
-                loginButton.setText("LOGIN");
-                loginButton.setEnabled(true);
+                resetLoginButton();
             }
+        }, error -> {
+            error.printStackTrace();
+            showStyledMessage("Login gagal, silakan coba lagi.", "Error", JOptionPane.ERROR_MESSAGE);
+            resetLoginButton();
         });
-        timer.setRepeats(false);
-        timer.start();
+    }
+    
+    private void resetLoginButton() {
+        loginButton.setText("LOGIN");
+        loginButton.setEnabled(true);
     }
     
     private void handleSignUp() {
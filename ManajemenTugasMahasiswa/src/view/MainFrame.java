@@ -1,8 +1,17 @@
 package view;
 
+import cache.UserDataCache;
 import model.User;
+import monitoring.EdtWatchdog;
+import service.AuthService;
+import service.StartupTimer;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 public class MainFrame extends JFrame {
     private CardLayout cardLayout;
@@ -15,6 +24,7 @@ public class MainFrame extends JFrame {
     private DashboardPanel dashboardPanel;
     private CourseManagementPanel courseManagementPanel;
     private TaskManagementPanel taskManagementPanel;
+    private DiagnosticsDialog diagnosticsDialog;
     
     // Panel names for CardLayout
     public static final String LOGIN_PANEL = "LOGIN";
@@ -44,13 +54,36 @@ public class MainFrame extends JFrame {
         mainPanel = new JPanel(cardLayout);
         mainPanel.setBackground(BACKGROUND_COLOR);
         
-        // Initialize login and register panels
+        // Hanya login panel yang dibuat saat startup; panel lain dibuat saat pertama dibuka
         loginPanel = new LoginPanel(this);
-        registerPanel = new RegisterPanel(this);
-        
-        // Add panels to CardLayout
         mainPanel.add(loginPanel, LOGIN_PANEL);
-        mainPanel.add(registerPanel, REGISTER_PANEL);
+        
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                StartupTimer.mark("first frame");
+            }
+        });
+        
+        // Ctrl+Shift+D membuka jendela diagnostik dari panel mana pun
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(
+            KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK), "diagnostics");
+        getRootPane().getActionMap().put("diagnostics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                showDiagnostics();
+            }
+        });
+    }
+    
+    public void showDiagnostics() {
+        if (diagnosticsDialog == null || !diagnosticsDialog.isDisplayable()) {
+            diagnosticsDialog = new DiagnosticsDialog(this);
+        } else {
+            diagnosticsDialog.refresh();
+        }
+        diagnosticsDialog.setVisible(true);
+        diagnosticsDialog.toFront();
     }
     
     private void setupLayout() {
@@ -60,11 +93,19 @@ public class MainFrame extends JFrame {
     
     // Navigation methods
     public void showLoginPanel() {
+        // Login/registrasi yang masih berjalan tidak boleh membuka panel setelah user pindah
+        AuthService.cancel();
+        cancelLoadsExcept(null);
         loginPanel.clearFields();
         cardLayout.show(mainPanel, LOGIN_PANEL);
     }
     
     public void showRegisterPanel() {
+        AuthService.cancel();
+        if (registerPanel == null) {
+            registerPanel = new RegisterPanel(this);
+            mainPanel.add(registerPanel, REGISTER_PANEL);
+        }
         registerPanel.clearForm();
         cardLayout.show(mainPanel, REGISTER_PANEL);
     }
@@ -77,10 +118,13 @@ public class MainFrame extends JFrame {
             dashboardPanel = new DashboardPanel(this, user);
             mainPanel.add(dashboardPanel, DASHBOARD_PANEL);
         } else {
+            // Isi panel dijaga tetap terbaru oleh event, tidak perlu dimuat ulang
             dashboardPanel.setCurrentUser(user);
-            dashboardPanel.refreshData();
+            dashboardPanel.refreshIfDayChanged();
+            dashboardPanel.reloadIfCancelled();
         }
         
+        cancelLoadsExcept(dashboardPanel);
         cardLayout.show(mainPanel, DASHBOARD_PANEL);
     }
     
@@ -92,9 +136,10 @@ public class MainFrame extends JFrame {
             courseManagementPanel = new CourseManagementPanel(this, currentUser);
             mainPanel.add(courseManagementPanel, COURSE_PANEL);
         } else {
-            courseManagementPanel.refreshData();
+            courseManagementPanel.reloadIfCancelled();
         }
         
+        cancelLoadsExcept(courseManagementPanel);
         cardLayout.show(mainPanel, COURSE_PANEL);
     }
     
@@ -106,12 +151,23 @@ public class MainFrame extends JFrame {
             taskManagementPanel = new TaskManagementPanel(this, currentUser);
             mainPanel.add(taskManagementPanel, TASK_PANEL);
         } else {
-            taskManagementPanel.refreshData();
+            taskManagementPanel.reloadIfCancelled();
         }
         
+        cancelLoadsExcept(taskManagementPanel);
         cardLayout.show(mainPanel, TASK_PANEL);
     }
     
+    // Load milik panel yang tidak tampil sudah tidak relevan, batalkan
+    private void cancelLoadsExcept(BasePanel visiblePanel) {
+        BasePanel[] panels = {dashboardPanel, courseManagementPanel, taskManagementPanel};
+        for (BasePanel panel : panels) {
+            if (panel != null && panel != visiblePanel) {
+                panel.cancelLoads();
+            }
+        }
+    }
+    
     // Utility methods
     public User getCurrentUser() {
         return currentUser;
@@ -119,17 +175,27 @@ public class MainFrame extends JFrame {
     
     public void logout() {
         this.currentUser = null;
+        cancelLoadsExcept(null);
+        
+        // Cache hanya untuk user yang sedang login
+        UserDataCache.logStats();
+        PaintMetrics.logStats();
+        EdtWatchdog.logStats();
+        UserDataCache.invalidateAll();
         
         // Clear panels to free memory
         if (dashboardPanel != null) {
+            dashboardPanel.detach();
             mainPanel.remove(dashboardPanel);
             dashboardPanel = null;
         }
         if (courseManagementPanel != null) {
+            courseManagementPanel.detach();
             mainPanel.remove(courseManagementPanel);
             courseManagementPanel = null;
         }
         if (taskManagementPanel != null) {
+            taskManagementPanel.detach();
             mainPanel.remove(taskManagementPanel);
             taskManagementPanel = null;
         }
@@ -137,17 +203,4 @@ public class MainFrame extends JFrame {
         // Reset login panel
         showLoginPanel();
     }
-    
-    // Method untuk refresh data di semua panel
-    public void refreshAllPanels() {
-        if (dashboardPanel != null) {
-            dashboardPanel.refreshData();
-        }
-        if (courseManagementPanel != null) {
-            courseManagementPanel.refreshData();
-        }
-        if (taskManagementPanel != null) {
-            taskManagementPanel.refreshData();
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package view;
+
+import javax.swing.RepaintManager;
+import java.util.logging.Logger;
+
+/**
+ * Waktu paint per frame. Swing menggambar semua region kotor dalam satu panggilan
+ * RepaintManager.paintDirtyRegions, jadi durasi panggilan itu adalah waktu paint satu frame.
+ * Dipasang sekali saat aplikasi mulai; semua method dipanggil di EDT.
+ */
+public final class PaintMetrics {
+    private static final Logger LOGGER = Logger.getLogger(PaintMetrics.class.getName());
+
+    private static long frames;
+    private static long totalNanos;
+    private static long maxNanos;
+    private static long lastNanos;
+    private static boolean installed;
+
+    private PaintMetrics() {
+    }
+
+    public static void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        RepaintManager.setCurrentManager(new RepaintManager() {
+            @Override
+            public void paintDirtyRegions() {
+                long start = System.nanoTime();
+                super.paintDirtyRegions();
+                record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    static void record(long nanos) {
+        frames++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastNanos = nanos;
+    }
+
+    public static Snapshot getSnapshot() {
+        return new Snapshot(frames, totalNanos / 1e6, maxNanos / 1e6, lastNanos / 1e6, RasterCache.getStats());
+    }
+
+    public static void reset() {
+        frames = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lastNanos = 0;
+    }
+
+    public static void logStats() {
+        LOGGER.info("Paint: " + getSnapshot());
+    }
+
+    public record Snapshot(long frames, double totalMillis, double maxMillis, double lastMillis, RasterCache.Stats rasterCache) {
+        public double avgMillis() {
+            return frames == 0 ? 0 : totalMillis / frames;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("frames=%d avg=%.3f ms max=%.3f ms last=%.3f ms, raster cache %s",
+                frames, avgMillis(), maxMillis, lastMillis, rasterCache);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package view;
+
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Cache gambar untuk dekorasi yang digambar dengan path Graphics2D (ikon navigasi,
+ * background tombol dan header). Setiap dekorasi dirasterisasi sekali per kombinasi
+ * nama, ukuran, dan skala device; repaint berikutnya cukup satu drawImage.
+ *
+ * Skala diambil dari transform Graphics saat paint, jadi pindah ke monitor HiDPI lain
+ * otomatis memakai entry baru. Pergantian Look and Feel mengosongkan cache. Hanya dipakai
+ * dari EDT.
+ */
+public final class RasterCache {
+    private static final int MAX_ENTRIES = 128;
+
+    private static final Map<Key, BufferedImage> IMAGES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static long hits;
+    private static long misses;
+    private static long invalidations;
+
+    static {
+        UIManager.addPropertyChangeListener(event -> {
+            if ("lookAndFeel".equals(event.getPropertyName())) {
+                invalidate();
+            }
+        });
+    }
+
+    private RasterCache() {
+    }
+
+    /**
+     * Gambar dekorasi name berukuran width x height di (0, 0). painter menggambar dalam
+     * koordinat logis; name harus mencakup semua state yang mengubah hasilnya (misalnya hover).
+     */
+    public static void paint(Graphics2D g2, String name, int width, int height, Consumer<Graphics2D> painter) {
+        AffineTransform transform = g2.getTransform();
+        // Rotasi/shear tidak bisa digambar ulang pixel-per-pixel; gambar langsung
+        if (width <= 0 || height <= 0 || (transform.getType() & (AffineTransform.TYPE_GENERAL_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM | AffineTransform.TYPE_FLIP)) != 0) {
+            painter.accept(g2);
+            return;
+        }
+
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+        Key key = new Key(name, width, height, scaleX, scaleY);
+        BufferedImage image = IMAGES.get(key);
+        if (image == null) {
+            misses++;
+            image = rasterize(width, height, scaleX, scaleY, painter);
+            IMAGES.put(key, image);
+        } else {
+            hits++;
+        }
+
+        // Gambar di ruang device supaya image tidak diskalakan ulang (tetap tajam di HiDPI)
+        Graphics2D device = (Graphics2D) g2.create();
+        try {
+            device.setTransform(AffineTransform.getTranslateInstance(
+                Math.round(transform.getTranslateX()), Math.round(transform.getTranslateY())));
+            device.drawImage(image, 0, 0, null);
+        } finally {
+            device.dispose();
+        }
+    }
+
+    private static BufferedImage rasterize(int width, int height, double scaleX, double scaleY, Consumer<Graphics2D> painter) {
+        BufferedImage image = new BufferedImage(
+            (int) Math.ceil(width * scaleX), (int) Math.ceil(height * scaleY), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.scale(scaleX, scaleY);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            painter.accept(g2);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    // Dipanggil saat tema berubah; juga bisa dipanggil manual setelah warna diubah
+    public static void invalidate() {
+        if (!IMAGES.isEmpty()) {
+            IMAGES.clear();
+            invalidations++;
+        }
+    }
+
+    public static Stats getStats() {
+        return new Stats(hits, misses, invalidations, IMAGES.size());
+    }
+
+    public record Stats(long hits, long misses, long invalidations, int cachedImages) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hitRatio=%.1f%% invalidations=%d images=%d",
+                hits, misses, hitRatio() * 100, invalidations, cachedImages);
+        }
+    }
+
+    private record Key(String name, int width, int height, double scaleX, double scaleY) {
+    }
+}
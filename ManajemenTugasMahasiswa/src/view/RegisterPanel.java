@@ -1,8 +1,12 @@
 package view;
 
-import controller.UserController;
+import cache.UsernameIndex;
+import controller.RegistrationResult;
+import service.AuthService;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.FocusEvent;
@@ -17,6 +21,7 @@ public class RegisterPanel extends JPanel {
     private JPasswordField confirmPasswordField;
     private JButton createButton;
     private JLabel signInLabel;
+    private JLabel availabilityLabel;
     
     // Colors - sama dengan LoginPanel
     private final Color BACKGROUND_COLOR = new Color(255, 255, 255);
@@ -25,6 +30,8 @@ public class RegisterPanel extends JPanel {
     private final Color BUTTON_HOVER_COLOR = new Color(130, 40, 180);
     private final Color TEXT_COLOR = new Color(80, 80, 80);
     private final Color FIELD_COLOR = new Color(200, 160, 200);
+    private final Color AVAILABLE_COLOR = new Color(40, 130, 60);
+    private final Color TAKEN_COLOR = new Color(190, 40, 40);
     
     public RegisterPanel(MainFrame mainFrame) {
         this.mainFrame = mainFrame;
@@ -32,6 +39,7 @@ public class RegisterPanel extends JPanel {
         setupLayout();
         setupEventHandlers();
         setupStyling();
+        AuthService.loadUsernameIndex(this::updateAvailability);
     }
     
     private void initComponents() {
@@ -43,6 +51,11 @@ public class RegisterPanel extends JPanel {
         confirmPasswordField = createStyledPasswordField("Confirm Password");
         createButton = createStyledButton("CREATE");
         signInLabel = createStyledLabel("Already have account? Sign In");
+        
+        // Satu spasi supaya tinggi baris tetap walau belum ada pesan
+        availabilityLabel = new JLabel(" ");
+        availabilityLabel.setFont(new Font("Arial", Font.PLAIN, 11));
+        availabilityLabel.setBorder(new EmptyBorder(4, 5, 0, 5));
     }
     
     private JTextField createStyledTextField(String placeholder) {
@@ -225,8 +238,13 @@ public class RegisterPanel extends JPanel {
         gbc.fill = GridBagConstraints.HORIZONTAL;
         
         // Add components to card
+        JPanel usernamePanel = new JPanel(new BorderLayout());
+        usernamePanel.setOpaque(false);
+        usernamePanel.add(usernameField, BorderLayout.CENTER);
+        usernamePanel.add(availabilityLabel, BorderLayout.SOUTH);
+        
         gbc.gridx = 0; gbc.gridy = 0;
-        cardPanel.add(usernameField, gbc);
+        cardPanel.add(usernamePanel, gbc);
         
         gbc.gridy = 1;
         cardPanel.add(passwordField, gbc);
@@ -277,6 +295,43 @@ public class RegisterPanel extends JPanel {
         usernameField.addActionListener(e -> passwordField.requestFocus());
         passwordField.addActionListener(e -> confirmPasswordField.requestFocus());
         confirmPasswordField.addActionListener(this::handleRegister);
+        
+        // Cek ketersediaan di index memori, jadi aman dijalankan di setiap ketikan
+        usernameField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                updateAvailability();
+            }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                updateAvailability();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+    }
+    
+    private void updateAvailability() {
+        String username = usernameField.getText().trim();
+        if (username.isEmpty() || username.equals("Username")) {
+            setAvailability(" ", TEXT_COLOR);
+        } else if (username.length() < 3) {
+            setAvailability("Username minimal 3 karakter", TEXT_COLOR);
+        } else {
+            switch (UsernameIndex.check(username)) {
+                case AVAILABLE -> setAvailability("Username tersedia", AVAILABLE_COLOR);
+                case TAKEN -> setAvailability("Username sudah digunakan", TAKEN_COLOR);
+                case UNKNOWN -> setAvailability(" ", TEXT_COLOR);
+            }
+        }
+    }
+    
+    private void setAvailability(String text, Color color) {
+        availabilityLabel.setText(text);
+        availabilityLabel.setForeground(color);
     }
     
     private void handleRegister(ActionEvent e) {
@@ -321,25 +376,41 @@ public class RegisterPanel extends JPanel {
             return;
         }
         
+        // Nama yang sudah ada di index pasti terpakai; tidak perlu hash dan insert
+        if (UsernameIndex.check(username) == UsernameIndex.Availability.TAKEN) {
+            showStyledMessage("Username sudah digunakan!\nSilakan pilih username lain.", "Error", JOptionPane.ERROR_MESSAGE);
+            usernameField.requestFocus();
+            return;
+        }
+        
         // Show loading effect
         createButton.setText("Creating...");
         createButton.setEnabled(false);
         
-        // Simulate loading delay
-        Timer timer = new Timer(500, event -> {
-            boolean success = UserController.registerUser(username, password);
-            if (success) {
+        // Hash password dan insert berjalan di background
+        AuthService.register(username, password, result -> {
+            if (result == RegistrationResult.CREATED) {
                 showStyledMessage("Registrasi berhasil!\nSilakan login dengan akun baru Anda.", "Success", JOptionPane.INFORMATION_MESSAGE);
                 mainFrame.showLoginPanel();
-            } else {
+            } else if (result == RegistrationResult.USERNAME_TAKEN) {
                 showStyledMessage("Username sudah digunakan!\nSilakan pilih username lain.", "Error", JOptionPane.ERROR_MESSAGE);
-                createButton.setText("CREATE");
-                createButton.setEnabled(true);
+                resetCreateButton();
+                updateAvailability();
                 usernameField.requestFocus();
+            } else {
+                showStyledMessage("Registrasi gagal, silakan coba lagi.", "Error", JOptionPane.ERROR_MESSAGE);
+                resetCreateButton();
             }
+        }, error -> {
+            error.printStackTrace();
+            showStyledMessage("Registrasi gagal, silakan coba lagi.", "Error", JOptionPane.ERROR_MESSAGE);
+            resetCreateButton();
         });
-        timer.setRepeats(false);
-        timer.start();
+    }
+    
+    private void resetCreateButton() {
+        createButton.setText("CREATE");
+        createButton.setEnabled(true);
     }
     
     private void handleBackToLogin() {
@@ -362,6 +433,7 @@ public class RegisterPanel extends JPanel {
         confirmPasswordField.setForeground(TEXT_COLOR.brighter());
         confirmPasswordField.setEchoChar((char) 0);
         
+        setAvailability(" ", TEXT_COLOR);
         createButton.setText("CREATE");
         createButton.setEnabled(true);
         
@@ -5,10 +5,13 @@ import model.abstractes.TaskBase;
 import model.AcademicTask;
 import model.PersonalTask;
 import model.enums.Status;
+import monitoring.DialogOpenEvent;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.time.format.DateTimeFormatter;
 
 public class TaskDetailDialog extends JDialog {
@@ -27,6 +30,15 @@ public class TaskDetailDialog extends JDialog {
     
     public TaskDetailDialog(MainFrame mainFrame, TaskBase task, DashboardPanel parentPanel) {
         super(mainFrame, "Detail Tugas", true);
+        // Dari konstruksi sampai dialog tampil, termasuk lookup nama mata kuliah
+        DialogOpenEvent openEvent = DialogOpenEvent.begin("TaskDetailDialog", mainFrame.getCurrentUser().getUserId(),
+            task.getTaskId(), task instanceof AcademicTask ? "academic" : "personal");
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                openEvent.finish();
+            }
+        });
         this.mainFrame = mainFrame;
         this.task = task;
         this.parentPanel = parentPanel;
@@ -150,7 +162,7 @@ public class TaskDetailDialog extends JDialog {
         if (task instanceof AcademicTask) {
             mainPanel.add(createLabel("Mata Kuliah:"), gbc);
             gbc.gridx = 1;
-            String courseName = TaskController.getCourseName(((AcademicTask) task).getCourseId());
+            String courseName = TaskController.getCourseName((AcademicTask) task, mainFrame.getCurrentUser().getUserId());
             mainPanel.add(createValueLabel(courseName), gbc);
         } else if (task instanceof PersonalTask) {
             mainPanel.add(createLabel("Kategori:"), gbc);
@@ -212,20 +224,11 @@ public class TaskDetailDialog extends JDialog {
         Status newStatus = (Status) statusComboBox.getSelectedItem();
         
         if (newStatus != task.getStatus()) {
-            boolean success = TaskController.updateTaskStatus(task, newStatus);
+            boolean success = TaskController.updateTaskStatus(task, newStatus, mainFrame.getCurrentUser().getUserId());
             
             if (success) {
-                task.setStatus(newStatus);
+                // Panel ikut ter-update lewat event TaskUpdated dari controller
                 JOptionPane.showMessageDialog(this, "Status tugas berhasil diperbarui!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                
-                // Refresh parent panel
-                if (parentPanel != null) {
-                    parentPanel.refreshData();
-                }
-                
-                // Refresh all panels in main frame
-                mainFrame.refreshAllPanels();
-                
                 dispose();
             } else {
                 JOptionPane.showMessageDialog(this, "Gagal memperbarui status tugas!", "Error", JOptionPane.ERROR_MESSAGE);
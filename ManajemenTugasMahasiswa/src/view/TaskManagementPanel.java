@@ -1,7 +1,13 @@
 package view;
 
+import cache.UserDataCache;
 import controller.TaskController;
-import controller.CourseController;
+import controller.TaskCursor;
+import event.CourseChanged;
+import event.DomainEvent;
+import event.TaskCreated;
+import event.TaskDeleted;
+import event.TaskUpdated;
 import model.User;
 import model.Course;
 import model.AcademicTask;
@@ -10,7 +16,8 @@ import model.abstractes.TaskBase;
 import model.enums.Status;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -21,7 +28,7 @@ import java.util.List;
 
 public class TaskManagementPanel extends BasePanel {
     private JTable taskTable;
-    private DefaultTableModel tableModel;
+    private TaskTableModel tableModel;
     private JTextField titleField;
     private JTextArea descriptionArea;
     private JTextField deadlineField;
@@ -34,16 +41,24 @@ public class TaskManagementPanel extends BasePanel {
     private JButton clearButton;
     private JLabel dynamicLabel;
     private JPanel dynamicFieldPanel;
+    private JTextField searchField;
+    private Timer searchTimer;
+    // Kata kunci yang hasilnya sedang ditampilkan; null berarti daftar semua task
+    private String activeQuery;
     
     // Konstanta untuk ukuran field
     private final Dimension FIELD_SIZE = new Dimension(200, 35);
+    // Batch event sebesar ini (misalnya bulk insert) lebih murah dimuat ulang daripada diterapkan satu per satu
+    private final int RELOAD_THRESHOLD = 200;
+    // Pencarian dijalankan setelah user berhenti mengetik selama jeda ini
+    private final int SEARCH_DEBOUNCE_MILLIS = 200;
+    private final int SEARCH_LIMIT = 100;
     
     public TaskManagementPanel(MainFrame mainFrame, User user) {
         super(mainFrame, user);
         initTaskComponents();
         setupTaskLayout();
-        loadCourses();
-        loadAllTasks();
+        refreshData();
     }
     
     private void initTaskComponents() {
@@ -104,6 +119,28 @@ public class TaskManagementPanel extends BasePanel {
         deleteButton = createActionButton("Hapus", BUTTON_COLOR);
         clearButton = createActionButton("Clear", BUTTON_COLOR.brighter());
         
+        // Search box; setiap ketikan me-restart timer sehingga query hanya jalan sekali per jeda
+        searchField = createStyledTextField();
+        searchField.setPreferredSize(FIELD_SIZE);
+        searchTimer = new Timer(SEARCH_DEBOUNCE_MILLIS, e -> runSearch());
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+        });
+        
         // Initialize table
         initializeTable();
     }
@@ -157,13 +194,7 @@ public class TaskManagementPanel extends BasePanel {
     }
     
     private void initializeTable() {
-        String[] columnNames = {"ID", "Judul", "Deskripsi", "Deadline", "Mata Kuliah", "Status"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new TaskTableModel(this::loadTaskPage);
         
         taskTable = new JTable(tableModel);
         taskTable.setFont(new Font("Arial", Font.PLAIN, 12));
@@ -306,6 +337,13 @@ public class TaskManagementPanel extends BasePanel {
         scrollPane.setBackground(Color.WHITE);
         scrollPane.getViewport().setBackground(Color.WHITE);
         
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 0));
+        searchPanel.setOpaque(false);
+        searchPanel.setBorder(new EmptyBorder(0, 0, 5, 0));
+        searchPanel.add(createLabel("Cari :"));
+        searchPanel.add(searchField);
+        
+        tablePanel.add(searchPanel, BorderLayout.NORTH);
         tablePanel.add(scrollPane, BorderLayout.CENTER);
         
         return tablePanel;
@@ -319,8 +357,12 @@ public class TaskManagementPanel extends BasePanel {
     }
     
     private void loadCourses() {
+        int userId = currentUser.getUserId();
+        loadAsync("courses", () -> UserDataCache.getCourses(userId), this::showCourses);
+    }
+    
+    private void showCourses(List<Course> courses) {
         courseCombo.removeAllItems();
-        List<Course> courses = CourseController.getCoursesByUserId(currentUser.getUserId());
         
         if (courses.isEmpty()) {
             courseCombo.addItem(new Course("Tidak ada mata kuliah", 0));
@@ -332,30 +374,28 @@ public class TaskManagementPanel extends BasePanel {
     }
     
     private void loadAllTasks() {
-        tableModel.setRowCount(0);
-        List<TaskBase> allTasks = TaskController.getAllTasksByUserId(currentUser.getUserId());
-        
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        
-        for (TaskBase task : allTasks) {
-            String courseOrCategory = "";
-            
-            if (task instanceof AcademicTask) {
-                courseOrCategory = TaskController.getCourseName(((AcademicTask) task).getCourseId());
-            } else if (task instanceof PersonalTask) {
-                courseOrCategory = ((PersonalTask) task).getCategory();
+        tableModel.reload();
+    }
+    
+    // Key yang sama untuk semua halaman: reload membatalkan halaman lama yang masih dimuat
+    private void loadTaskPage(TaskCursor after, int limit) {
+        int userId = currentUser.getUserId();
+        loadAsync("tasks", () -> UserDataCache.getTasksPage(userId, after, limit), tableModel::appendPage);
+    }
+    
+    private void runSearch() {
+        String query = searchField.getText().trim();
+        if (query.isEmpty()) {
+            if (activeQuery != null) {
+                activeQuery = null;
+                loadAllTasks();
             }
-            
-            Object[] row = {
-                task.getTaskId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDeadline().format(formatter),
-                courseOrCategory,
-                task.getStatus().getDisplayName()
-            };
-            tableModel.addRow(row);
+            return;
         }
+        activeQuery = query;
+        int userId = currentUser.getUserId();
+        // Key "tasks" yang sama dengan paging, jadi pencarian membatalkan halaman yang masih dimuat
+        loadAsync("tasks", () -> TaskController.searchTasks(userId, query, SEARCH_LIMIT), tableModel::showSearchResults);
     }
     
     private void setupTaskEventHandlers() {
@@ -413,7 +453,8 @@ public class TaskManagementPanel extends BasePanel {
             }
             
             AcademicTask task = new AcademicTask(0, title, description, deadline, Status.BELUM_MULAI, selectedCourse.getCourseId());
-            success = TaskController.addAcademicTask(task);
+            task.setCourseName(selectedCourse.getCourseName());
+            success = TaskController.addAcademicTask(task, currentUser.getUserId());
         } else {
             String category = categoryField.getText().trim();
             if (category.isEmpty()) {
@@ -428,8 +469,6 @@ public class TaskManagementPanel extends BasePanel {
         if (success) {
             JOptionPane.showMessageDialog(this, "Tugas berhasil ditambahkan!", "Success", JOptionPane.INFORMATION_MESSAGE);
             handleClearForm(null);
-            loadAllTasks();
-            mainFrame.refreshAllPanels();
         } else {
             JOptionPane.showMessageDialog(this, "Gagal menambahkan tugas!", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -460,26 +499,11 @@ public class TaskManagementPanel extends BasePanel {
                 case "Selesai" -> newStatus = Status.SELESAI;
             }
             
-            int taskId = (Integer) tableModel.getValueAt(selectedRow, 0);
-            
-            // Get task from database to determine type
-            AcademicTask academicTask = TaskController.getAcademicTaskById(taskId);
-            PersonalTask personalTask = null;
-            if (academicTask == null) {
-                personalTask = TaskController.getPersonalTaskById(taskId);
-            }
-            
-            boolean success = false;
-            if (academicTask != null) {
-                success = TaskController.updateTaskStatus(academicTask, newStatus);
-            } else if (personalTask != null) {
-                success = TaskController.updateTaskStatus(personalTask, newStatus);
-            }
+            TaskBase task = tableModel.getTaskAt(taskTable.convertRowIndexToModel(selectedRow));
+            boolean success = TaskController.updateTaskStatus(task, newStatus, currentUser.getUserId());
             
             if (success) {
                 JOptionPane.showMessageDialog(this, "Status berhasil diupdate!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                loadAllTasks();
-                mainFrame.refreshAllPanels();
             } else {
                 JOptionPane.showMessageDialog(this, "Gagal mengupdate status!", "Error", JOptionPane.ERROR_MESSAGE);
             }
@@ -495,18 +519,14 @@ public class TaskManagementPanel extends BasePanel {
         
         int option = JOptionPane.showConfirmDialog(this, "Yakin ingin menghapus tugas ini?", "Konfirmasi Hapus", JOptionPane.YES_NO_OPTION);
         if (option == JOptionPane.YES_OPTION) {
-            int taskId = (Integer) tableModel.getValueAt(selectedRow, 0);
-            
-            // Try to delete as academic task first, then personal task
-            boolean success = TaskController.deleteAcademicTask(taskId);
-            if (!success) {
-                success = TaskController.deletePersonalTask(taskId);
-            }
+            // Tipe task diketahui dari row model, jadi id academic dan personal yang sama tidak tertukar
+            TaskBase task = tableModel.getTaskAt(taskTable.convertRowIndexToModel(selectedRow));
+            boolean success = task instanceof AcademicTask
+                ? TaskController.deleteAcademicTask(task.getTaskId(), currentUser.getUserId())
+                : TaskController.deletePersonalTask(task.getTaskId(), currentUser.getUserId());
             
             if (success) {
                 JOptionPane.showMessageDialog(this, "Tugas berhasil dihapus!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                loadAllTasks();
-                mainFrame.refreshAllPanels();
             } else {
                 JOptionPane.showMessageDialog(this, "Gagal menghapus tugas!", "Error", JOptionPane.ERROR_MESSAGE);
             }
@@ -539,9 +559,84 @@ public class TaskManagementPanel extends BasePanel {
     }
     
     @Override
-    public void refreshData() {
+    protected void reloadData() {
         loadCourses();
-        loadAllTasks();
+        if (activeQuery != null) {
+            runSearch();
+        } else {
+            loadAllTasks();
+        }
+    }
+    
+    @Override
+    public void cancelLoads() {
+        super.cancelLoads();
+        tableModel.loadCancelled();
+    }
+    
+    @Override
+    protected void applyEvents(List<DomainEvent> events) {
+        // Halaman yang sedang dimuat bisa saja dibaca sebelum write ini terjadi.
+        // Hasil pencarian diurutkan ranking, jadi pencariannya dijalankan ulang
+        boolean reloadTasks = tableModel.isLoading() || events.size() > RELOAD_THRESHOLD || activeQuery != null;
+        boolean reloadCourses = isLoading("courses");
+        
+        for (DomainEvent event : events) {
+            if (event instanceof CourseChanged courseChanged) {
+                if (!reloadCourses) {
+                    applyCourseChange(courseChanged);
+                }
+                if (courseChanged.deleted() && !reloadTasks) {
+                    tableModel.courseDeleted(courseChanged.courseId());
+                }
+            } else if (reloadTasks) {
+                continue;
+            } else if (event instanceof TaskCreated created) {
+                tableModel.taskCreated(created.task());
+            } else if (event instanceof TaskUpdated updated) {
+                tableModel.taskUpdated(updated.task());
+            } else if (event instanceof TaskDeleted deleted) {
+                tableModel.taskDeleted(deleted.academic(), deleted.taskId());
+            }
+        }
+        
+        if (reloadCourses) {
+            loadCourses();
+        }
+        if (reloadTasks && activeQuery != null) {
+            runSearch();
+        } else if (reloadTasks) {
+            loadAllTasks();
+        }
+    }
+    
+    // Combo mata kuliah urut nama, sama dengan UserDataCache.getCourses
+    private void applyCourseChange(CourseChanged event) {
+        if (courseCombo.getItemCount() == 1 && courseCombo.getItemAt(0).getCourseId() == 0) {
+            courseCombo.removeItemAt(0);
+        }
+        
+        if (event.deleted()) {
+            for (int i = 0; i < courseCombo.getItemCount(); i++) {
+                if (courseCombo.getItemAt(i).getCourseId() == event.courseId()) {
+                    courseCombo.removeItemAt(i);
+                    break;
+                }
+            }
+        } else {
+            int index = 0;
+            while (index < courseCombo.getItemCount()
+                    && courseCombo.getItemAt(index).getCourseName().compareTo(event.course().getCourseName()) <= 0) {
+                index++;
+            }
+            courseCombo.insertItemAt(event.course(), index);
+        }
+        
+        if (courseCombo.getItemCount() == 0) {
+            courseCombo.addItem(new Course("Tidak ada mata kuliah", 0));
+        } else if (courseCombo.getSelectedIndex() < 0) {
+            courseCombo.setSelectedIndex(0);
+        }
     }
     
     // Override navigation to highlight current page
@@ -0,0 +1,378 @@
+package view;
+
+import cache.IntObjectMap;
+import controller.TaskCursor;
+import controller.TaskPage;
+import model.AcademicTask;
+import model.PersonalTask;
+import model.abstractes.TaskBase;
+import javax.swing.table.AbstractTableModel;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Table model yang memuat task per halaman. Halaman berikutnya diminta saat JTable
+ * merender baris yang dekat dengan akhir data yang sudah dimuat, jadi hanya baris
+ * yang benar-benar terlihat (plus sedikit buffer) yang pernah diambil dari database.
+ *
+ * Baris diindeks per id task. Reload dan event hanya mem-fire rentang baris yang
+ * benar-benar berubah, jadi seleksi dan posisi scroll JTable tidak hilang.
+ */
+public class TaskTableModel extends AbstractTableModel {
+    public static final int PAGE_SIZE = 100;
+    private static final int PREFETCH_DISTANCE = 20;
+    private static final String[] COLUMN_NAMES = {"ID", "Judul", "Deskripsi", "Deadline", "Mata Kuliah", "Status"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    // Urutan (deadline, kind, id) dari key yang disimpan saat baris dibuat, bukan dari
+    // task-nya: objek task bisa diubah di tempat oleh pemilik lain
+    private static final Comparator<TaskCursor> KEY_ORDER = Comparator
+        .comparing(TaskCursor::deadline)
+        .thenComparing(TaskCursor::kind)
+        .thenComparingInt(TaskCursor::id);
+    private static final Comparator<Row> ROW_ORDER = (a, b) -> KEY_ORDER.compare(a.key, b.key);
+
+    @FunctionalInterface
+    public interface PageRequester {
+        // Memuat maksimal limit task setelah cursor (di luar EDT) lalu memanggil appendPage
+        void request(TaskCursor after, int limit);
+    }
+
+    private final List<Row> rows = new ArrayList<>();
+    private final IntObjectMap<Row> academicRows = new IntObjectMap<>();
+    private final IntObjectMap<Row> personalRows = new IntObjectMap<>();
+    private final PageRequester pageRequester;
+    private TaskCursor nextCursor;
+    private boolean hasMore;
+    private boolean loading;
+    // Hasil request berikutnya menggantikan semua baris (lewat diff), bukan ditambahkan
+    private boolean replacing;
+    // Baris berisi hasil pencarian (urut ranking, bukan deadline) sampai reload berikutnya
+    private boolean searching;
+
+    public TaskTableModel(PageRequester pageRequester) {
+        this.pageRequester = pageRequester;
+    }
+
+    // Muat ulang sebanyak baris yang sudah dimuat, lalu terapkan selisihnya saja
+    public void reload() {
+        if (searching) {
+            // Urutan ranking tidak bisa di-diff dengan urutan deadline
+            searching = false;
+            clearRows();
+        }
+        replacing = true;
+        loading = true;
+        pageRequester.request(null, Math.max(PAGE_SIZE, rows.size()));
+    }
+
+    public void appendPage(TaskPage page) {
+        loading = false;
+        nextCursor = page.nextCursor();
+        hasMore = page.hasMore();
+        if (replacing) {
+            replacing = false;
+            replaceRows(page.tasks());
+        } else if (!page.tasks().isEmpty()) {
+            insertRows(rows.size(), page.tasks());
+        }
+    }
+
+    public void showSearchResults(List<TaskBase> results) {
+        searching = true;
+        replacing = false;
+        loading = false;
+        hasMore = false;
+        nextCursor = null;
+        clearRows();
+        insertRows(0, results);
+    }
+
+    // Request halaman dibatalkan (panel disembunyikan): appendPage tidak akan dipanggil,
+    // jadi paging dan delta event harus bisa berjalan lagi
+    public void loadCancelled() {
+        loading = false;
+        replacing = false;
+    }
+
+    public TaskBase getTaskAt(int row) {
+        return rows.get(row).task;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+
+    // ===== Delta dari event; hanya baris yang terpengaruh yang di-fire =====
+
+    public void taskCreated(TaskBase task) {
+        insertSorted(task);
+    }
+
+    public void taskUpdated(TaskBase task) {
+        Row current = rowOf(task instanceof AcademicTask, task.getTaskId());
+        if (current != null) {
+            Row updated = new Row(task);
+            // Posisi urutan tetap (deadline tidak berubah): cukup update satu baris.
+            // Hasil pencarian tidak urut deadline, jadi selalu di-update di tempat
+            if (searching || KEY_ORDER.compare(current.key, updated.key) == 0) {
+                setRow(current.position, updated);
+                return;
+            }
+            removeRows(current.position, current.position);
+        }
+        insertSorted(task);
+    }
+
+    public void taskDeleted(boolean academic, int taskId) {
+        Row current = rowOf(academic, taskId);
+        if (current != null) {
+            removeRows(current.position, current.position);
+        }
+    }
+
+    // Academic task course ini sudah terhapus oleh cascade; dihapus per rentang berurutan
+    public void courseDeleted(int courseId) {
+        int end = rows.size() - 1;
+        while (end >= 0) {
+            if (!isOfCourse(rows.get(end), courseId)) {
+                end--;
+                continue;
+            }
+            int start = end;
+            while (start > 0 && isOfCourse(rows.get(start - 1), courseId)) {
+                start--;
+            }
+            removeRows(start, end);
+            end = start - 1;
+        }
+    }
+
+    private static boolean isOfCourse(Row row, int courseId) {
+        return row.task instanceof AcademicTask academic && academic.getCourseId() == courseId;
+    }
+
+    private void insertSorted(TaskBase task) {
+        if (searching) {
+            return;
+        }
+        Row row = new Row(task);
+        int position = Collections.binarySearch(rows, row, ROW_ORDER);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        // Setelah baris terakhir yang dimuat: task ini akan ikut di halaman berikutnya
+        if (position == rows.size() && hasMore) {
+            return;
+        }
+        insertRows(position, List.of(task));
+    }
+
+    // ===== Diff reload =====
+
+    // Kedua list urut (deadline, kind, id): satu kali merge, event dikumpulkan per rentang
+    private void replaceRows(List<TaskBase> tasks) {
+        List<Row> incoming = new ArrayList<>(tasks.size());
+        for (TaskBase task : tasks) {
+            incoming.add(new Row(task));
+        }
+
+        int row = 0;
+        int next = 0;
+        int updatedFrom = -1;
+        while (row < rows.size() || next < incoming.size()) {
+            int compare = row == rows.size() ? 1
+                : next == incoming.size() ? -1
+                : ROW_ORDER.compare(rows.get(row), incoming.get(next));
+
+            if (compare == 0) {
+                Row fresh = incoming.get(next++);
+                if (!Arrays.equals(rows.get(row).values, fresh.values)) {
+                    if (updatedFrom < 0) {
+                        updatedFrom = row;
+                    }
+                    replaceRow(row, fresh);
+                } else if (updatedFrom >= 0) {
+                    fireTableRowsUpdated(updatedFrom, row - 1);
+                    updatedFrom = -1;
+                }
+                row++;
+                continue;
+            }
+
+            if (updatedFrom >= 0) {
+                fireTableRowsUpdated(updatedFrom, row - 1);
+                updatedFrom = -1;
+            }
+            if (compare < 0) {
+                // Baris lama yang tidak ada lagi, sampai ketemu baris baru berikutnya
+                int end = row + 1;
+                while (end < rows.size() && (next == incoming.size() || ROW_ORDER.compare(rows.get(end), incoming.get(next)) < 0)) {
+                    end++;
+                }
+                removeRows(row, end - 1);
+            } else {
+                int end = next + 1;
+                while (end < incoming.size() && (row == rows.size() || ROW_ORDER.compare(rows.get(row), incoming.get(end)) > 0)) {
+                    end++;
+                }
+                insertRowObjects(row, incoming.subList(next, end));
+                row += end - next;
+                next = end;
+            }
+        }
+        if (updatedFrom >= 0) {
+            fireTableRowsUpdated(updatedFrom, rows.size() - 1);
+        }
+    }
+
+    // ===== Row store: list berurutan + index id -> baris =====
+
+    private Row rowOf(boolean academic, int taskId) {
+        return academic ? academicRows.get(taskId) : personalRows.get(taskId);
+    }
+
+    private void insertRows(int position, List<? extends TaskBase> tasks) {
+        List<Row> newRows = new ArrayList<>(tasks.size());
+        for (TaskBase task : tasks) {
+            newRows.add(new Row(task));
+        }
+        insertRowObjects(position, newRows);
+    }
+
+    private void insertRowObjects(int position, List<Row> newRows) {
+        if (newRows.isEmpty()) {
+            return;
+        }
+        rows.addAll(position, newRows);
+        for (Row row : newRows) {
+            index(row);
+        }
+        reindexFrom(position);
+        fireTableRowsInserted(position, position + newRows.size() - 1);
+    }
+
+    private void removeRows(int first, int last) {
+        List<Row> removed = rows.subList(first, last + 1);
+        for (Row row : removed) {
+            if (row.task instanceof AcademicTask) {
+                academicRows.remove(row.task.getTaskId());
+            } else {
+                personalRows.remove(row.task.getTaskId());
+            }
+        }
+        removed.clear();
+        reindexFrom(first);
+        fireTableRowsDeleted(first, last);
+    }
+
+    private void clearRows() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int last = rows.size() - 1;
+        rows.clear();
+        academicRows.clear();
+        personalRows.clear();
+        fireTableRowsDeleted(0, last);
+    }
+
+    private void setRow(int position, Row row) {
+        replaceRow(position, row);
+        fireTableRowsUpdated(position, position);
+    }
+
+    // Tanpa event; pemanggil yang mem-fire (satu event untuk satu rentang)
+    private void replaceRow(int position, Row row) {
+        row.position = position;
+        rows.set(position, row);
+        index(row);
+    }
+
+    private void index(Row row) {
+        if (row.task instanceof AcademicTask) {
+            academicRows.put(row.task.getTaskId(), row);
+        } else {
+            personalRows.put(row.task.getTaskId(), row);
+        }
+    }
+
+    private void reindexFrom(int position) {
+        for (int i = position; i < rows.size(); i++) {
+            rows.get(i).position = i;
+        }
+    }
+
+    private void requestPage() {
+        loading = true;
+        pageRequester.request(nextCursor, PAGE_SIZE);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 ? Integer.class : String.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (hasMore && !loading && row >= rows.size() - PREFETCH_DISTANCE) {
+            requestPage();
+        }
+        return rows.get(row).values[column];
+    }
+
+    private static String courseOrCategory(TaskBase task) {
+        if (task instanceof AcademicTask academicTask) {
+            return academicTask.getCourseName();
+        } else if (task instanceof PersonalTask personalTask) {
+            return personalTask.getCategory();
+        }
+        return "";
+    }
+
+    // Nilai kolom dihitung sekali saat baris masuk; juga dipakai diff untuk mendeteksi perubahan
+    private static final class Row {
+        final TaskBase task;
+        final TaskCursor key;
+        final Object[] values;
+        int position;
+
+        Row(TaskBase task) {
+            this.task = task;
+            this.key = TaskCursor.after(task);
+            this.values = new Object[] {
+                task.getTaskId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDeadline().format(DATE_FORMAT),
+                courseOrCategory(task),
+                task.getStatus().getDisplayName()
+            };
+        }
+    }
+}